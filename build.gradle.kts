@@ -14,6 +14,12 @@ repositories {
     mavenCentral()
 }
 
+// JMH benchmarks live in src/jmh and run with `./gradlew jmh`
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
 dependencies {
     testImplementation(platform("org.junit:junit-bom:5.10.0"))
     testImplementation("org.junit.jupiter:junit-jupiter")
@@ -25,8 +31,23 @@ dependencies {
 
     testImplementation("net.bytebuddy:byte-buddy:1.17.5")
     testImplementation("net.bytebuddy:byte-buddy-agent:1.17.5")
+
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
 }
 
 tasks.test {
     useJUnitPlatform()
-}
\ No newline at end of file
+}
+
+// Throughput plus allocation rate (gc profiler); select benchmarks with -Pjmh.include=<regex>
+tasks.register<JavaExec>("jmh") {
+    group = "verification"
+    description = "Runs the JMH benchmarks."
+    classpath = jmh.runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    val results = layout.buildDirectory.file("reports/jmh/results.json").get().asFile
+    doFirst { results.parentFile.mkdirs() }
+    args(listOfNotNull(project.findProperty("jmh.include")?.toString()) +
+            listOf("-prof", "gc", "-rf", "json", "-rff", results.path))
+}
@@ -0,0 +1,58 @@
+package it.units.quoridor.benchmark;
+
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.domain.Wall;
+import it.units.quoridor.domain.WallOrientation;
+import it.units.quoridor.domain.WallPosition;
+import it.units.quoridor.engine.MoveResult;
+import it.units.quoridor.engine.QuoridorEngine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A move through {@link QuoridorEngine} followed by {@code undo}, so every invocation starts
+ * from the fixture position. When the player to move has no walls left (4-player endgame),
+ * {@code placeWallAndUndo} measures the rejection path instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EngineBenchmark {
+
+    @Param
+    public Fixture fixture;
+
+    private QuoridorEngine engine;
+    private PlayerId player;
+    private Wall wall;
+    private Position destination;
+
+    @Setup
+    public void setUp() {
+        engine = fixture.engine();
+        player = engine.gameState().currentPlayerId();
+        wall = engine.gameState().currentPlayerWallsRemaining() > 0
+                ? engine.legalWallsForPlayer(player).iterator().next()
+                : new Wall(new WallPosition(0, 0), WallOrientation.HORIZONTAL);
+        destination = engine.legalPawnDestinationsForPlayer(player).iterator().next();
+    }
+
+    @Benchmark
+    public MoveResult placeWallAndUndo() {
+        MoveResult result = engine.placeWall(player, wall);
+        if (result.isValid()) engine.undo();
+        return result;
+    }
+
+    @Benchmark
+    public MoveResult movePawnAndUndo() {
+        MoveResult result = engine.movePawn(player, destination);
+        engine.undo();
+        return result;
+    }
+}
@@ -0,0 +1,95 @@
+package it.units.quoridor.benchmark;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.domain.Wall;
+import it.units.quoridor.engine.QuoridorEngine;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.IndexedBfsPathFinder;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.PlayerCount;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Reproducible benchmark positions: the opening, a midgame with 10 walls and an endgame with
+ * 20 walls, for 2 and 4 players.
+ *
+ * <p>Positions are reached by playing through a real engine with a fixed seed: rounds of
+ * random pawn steps (never onto a goal) alternate with rounds of random legal walls.
+ */
+public enum Fixture {
+    OPENING_2P(PlayerCount.TWO_PLAYERS, 2, 0),
+    MIDGAME_2P(PlayerCount.TWO_PLAYERS, 2, 10),
+    ENDGAME_2P(PlayerCount.TWO_PLAYERS, 2, 20),
+    OPENING_4P(PlayerCount.FOUR_PLAYERS, 4, 0),
+    MIDGAME_4P(PlayerCount.FOUR_PLAYERS, 4, 10),
+    ENDGAME_4P(PlayerCount.FOUR_PLAYERS, 4, 20);
+
+    public static final GameRules RULES = new QuoridorGameRules();
+
+    private static final long SEED = 20240611L;
+
+    private final PlayerCount playerCount;
+    private final int players;
+    private final int walls;
+
+    Fixture(PlayerCount playerCount, int players, int walls) {
+        this.playerCount = playerCount;
+        this.players = players;
+        this.walls = walls;
+    }
+
+    /** Engine wired like the application's, with the same validators. */
+    public static QuoridorEngine newEngine() {
+        return new QuoridorEngine(RULES, new QuoridorPawnMoveValidator(),
+                new QuoridorWallPlacementValidator(RULES, new IndexedBfsPathFinder(), new BfsDistanceOracle(RULES)),
+                new QuoridorWinChecker(RULES));
+    }
+
+    /** A fresh engine whose current state is this fixture's position. */
+    public QuoridorEngine engine() {
+        QuoridorEngine engine = newEngine();
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < players; i++) names.add("P" + (i + 1));
+        engine.newGame(playerCount, names);
+
+        Random random = new Random(SEED);
+        int placed = 0;
+        for (int turn = 0; placed < walls; turn++) {
+            PlayerId player = engine.gameState().currentPlayerId();
+            boolean wallRound = (turn / players) % 2 == 1;
+            if (wallRound && engine.gameState().currentPlayerWallsRemaining() > 0) {
+                List<Wall> legal = new ArrayList<>(engine.legalWallsForPlayer(player));
+                engine.placeWall(player, legal.get(random.nextInt(legal.size())));
+                placed++;
+            } else {
+                stepWithoutWinning(engine, player, random);
+            }
+        }
+        return engine;
+    }
+
+    public GameState state() {
+        return engine().gameState();
+    }
+
+    private static void stepWithoutWinning(QuoridorEngine engine, PlayerId player, Random random) {
+        List<Position> destinations = new ArrayList<>(engine.legalPawnDestinationsForPlayer(player));
+        // Sets have no stable order: sort so the seed alone decides the walk
+        destinations.sort((a, b) -> a.row() != b.row() ? a.row() - b.row() : a.col() - b.col());
+        while (!destinations.isEmpty()) {
+            Position target = destinations.remove(random.nextInt(destinations.size()));
+            if (!engine.movePawn(player, target).isWin()) return;
+            engine.undo();
+        }
+        throw new IllegalStateException("No non-winning move for " + player);
+    }
+}
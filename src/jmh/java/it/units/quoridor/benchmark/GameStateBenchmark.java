@@ -0,0 +1,31 @@
+package it.units.quoridor.benchmark;
+
+import it.units.quoridor.domain.GameState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/** {@link GameState#hashCode()}, as used by hash-based caches of positions. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateBenchmark {
+
+    @Param
+    public Fixture fixture;
+
+    private GameState state;
+
+    @Setup
+    public void setUp() {
+        state = fixture.state();
+    }
+
+    @Benchmark
+    public int stateHashCode() {
+        return state.hashCode();
+    }
+}
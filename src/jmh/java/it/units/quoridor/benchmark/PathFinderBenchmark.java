@@ -0,0 +1,65 @@
+package it.units.quoridor.benchmark;
+
+import it.units.quoridor.domain.Board;
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.logic.pathFinder.BfsPathFinder;
+import it.units.quoridor.logic.pathFinder.IndexedBfsPathFinder;
+import it.units.quoridor.logic.pathFinder.PathFinder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/** Reachability from the current player's pawn to the farthest goal cell and to the goal edge. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathFinderBenchmark {
+
+    @Param
+    public Fixture fixture;
+
+    private final PathFinder bfs = new BfsPathFinder();
+    private final PathFinder indexed = new IndexedBfsPathFinder();
+
+    private Board board;
+    private Position start;
+    private Position target;
+    private Set<Position> goals;
+
+    @Setup
+    public void setUp() {
+        GameState state = fixture.state();
+        PlayerId player = state.currentPlayerId();
+        board = state.board();
+        start = board.playerPosition(player);
+        goals = Fixture.RULES.getGoalPositions(player);
+        target = goals.stream()
+                .max((a, b) -> Integer.compare(distance(start, a), distance(start, b)))
+                .orElseThrow();
+    }
+
+    private static int distance(Position a, Position b) {
+        return Math.abs(a.row() - b.row()) + Math.abs(a.col() - b.col());
+    }
+
+    @Benchmark
+    public boolean bfsPathExists() {
+        return bfs.pathExists(board, start, target);
+    }
+
+    @Benchmark
+    public boolean bfsPathExistsToGoal() {
+        return bfs.pathExistsToAny(board, start, goals);
+    }
+
+    @Benchmark
+    public boolean indexedPathExistsToGoal() {
+        return indexed.pathExistsToAny(board, start, goals);
+    }
+}
@@ -0,0 +1,40 @@
+package it.units.quoridor.benchmark;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.engine.moves.PawnMoveGenerator;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/** Legal pawn destinations of the player to move. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PawnMoveGeneratorBenchmark {
+
+    @Param
+    public Fixture fixture;
+
+    private final PawnMoveGenerator generator = new PawnMoveGenerator(new QuoridorPawnMoveValidator());
+
+    private GameState state;
+    private PlayerId player;
+
+    @Setup
+    public void setUp() {
+        state = fixture.state();
+        player = state.currentPlayerId();
+    }
+
+    @Benchmark
+    public Set<Position> legalDestinations() {
+        return generator.legalDestinations(state, player);
+    }
+}
@@ -0,0 +1,66 @@
+package it.units.quoridor.benchmark;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Wall;
+import it.units.quoridor.domain.WallOrientation;
+import it.units.quoridor.domain.WallPosition;
+import it.units.quoridor.domain.WallSet;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.IndexedBfsPathFinder;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+import it.units.quoridor.logic.validation.WallPlacementValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link QuoridorWallPlacementValidator#canPlaceWall} cycling over all 128 wall slots, so
+ * overlapping, crossing, path-blocking and legal walls are all measured, and the full
+ * {@code legalWalls} scan.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WallPlacementBenchmark {
+
+    @Param
+    public Fixture fixture;
+
+    private final WallPlacementValidator validator = new QuoridorWallPlacementValidator(
+            Fixture.RULES, new IndexedBfsPathFinder(), new BfsDistanceOracle(Fixture.RULES));
+
+    private final Wall[] candidates = new Wall[128];
+    private GameState state;
+    private PlayerId player;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        state = fixture.state();
+        player = state.currentPlayerId();
+        int i = 0;
+        for (WallOrientation orientation : WallOrientation.values()) {
+            for (int row = WallPosition.MIN_COORDINATE; row <= WallPosition.MAX_COORDINATE; row++) {
+                for (int col = WallPosition.MIN_COORDINATE; col <= WallPosition.MAX_COORDINATE; col++) {
+                    candidates[i++] = new Wall(new WallPosition(row, col), orientation);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean canPlaceWall() {
+        Wall wall = candidates[next];
+        next = (next + 1) & (candidates.length - 1);
+        return validator.canPlaceWall(state, player, wall);
+    }
+
+    @Benchmark
+    public WallSet legalWalls() {
+        return validator.legalWalls(state, player);
+    }
+}
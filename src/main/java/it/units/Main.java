@@ -1,39 +1,83 @@
 package it.units;
 
+import it.units.quoridor.ai.AlphaBetaBot;
+import it.units.quoridor.ai.GameSimulator;
+import it.units.quoridor.ai.MctsBot;
+import it.units.quoridor.ai.PathDifferenceEvaluator;
+import it.units.quoridor.ai.TranspositionTable;
 import it.units.quoridor.controller.Controller;
+import it.units.quoridor.domain.PlayerId;
 import it.units.quoridor.engine.*;
-import it.units.quoridor.logic.pathFinder.BfsPathFinder;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+import it.units.quoridor.logic.pathFinder.IndexedBfsPathFinder;
 import it.units.quoridor.logic.pathFinder.PathFinder;
 import it.units.quoridor.logic.rules.*;
 import it.units.quoridor.logic.validation.PawnMoveValidator;
 import it.units.quoridor.logic.validation.WallPlacementValidator;
 import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
 import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.tournament.TournamentCli;
 
 import it.units.quoridor.view.SwingGameView;
 
 import javax.swing.SwingUtilities;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Main entry point for the Quoridor game application.
  * Wires up all components using dependency injection.
+ *
+ * <p>With {@code --vs-computer}, every player but Player 1 is played by the computer
+ * (alpha-beta search; add {@code --mcts} for Monte Carlo tree search on all cores).
+ * With {@code --tournament}, bots play each other headless; see {@link TournamentCli}.
  */
 public class Main {
+
+    private static final Duration BOT_THINKING_TIME = Duration.ofSeconds(2);
+    private static final int BOT_TABLE_ENTRIES = 1 << 20;
+
     public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--tournament")) {
+            System.exit(TournamentCli.run(args, System.out));
+        }
+
+        boolean vsComputer = Arrays.asList(args).contains("--vs-computer");
+        boolean mcts = Arrays.asList(args).contains("--mcts");
+
         SwingUtilities.invokeLater(() -> {
-            PathFinder pathFinder = new BfsPathFinder();
+            PathFinder pathFinder = new IndexedBfsPathFinder();
             GameRules rules = new QuoridorGameRules();
             WinChecker winChecker = new QuoridorWinChecker(rules);
 
             PawnMoveValidator pawnValidator = new QuoridorPawnMoveValidator();
-            WallPlacementValidator wallValidator = new QuoridorWallPlacementValidator(rules, pathFinder);
+            DistanceOracle distances = new BfsDistanceOracle(rules);
+            WallPlacementValidator wallValidator =
+                    new QuoridorWallPlacementValidator(rules, pathFinder, distances);
 
             QuoridorEngine engine = new QuoridorEngine(
                     rules, pawnValidator, wallValidator, winChecker
             );
 
             SwingGameView view = new SwingGameView();
-            new Controller(engine, view);
+            Controller controller = new Controller(engine, view);
+
+            if (vsComputer) {
+                // Bots think on their own thread: the indexed path finder is single-threaded
+                WallPlacementValidator botWallValidator =
+                        new QuoridorWallPlacementValidator(rules, new IndexedBfsPathFinder(), distances);
+                GameSimulator simulator =
+                        new GameSimulator(pawnValidator, botWallValidator, winChecker, distances);
+                TranspositionTable table = new TranspositionTable(BOT_TABLE_ENTRIES);
+                for (PlayerId bot : List.of(PlayerId.PLAYER_2, PlayerId.PLAYER_3, PlayerId.PLAYER_4)) {
+                    controller.setBot(bot, mcts
+                            ? new MctsBot(rules, BOT_THINKING_TIME, Runtime.getRuntime().availableProcessors())
+                            : new AlphaBetaBot(simulator, new PathDifferenceEvaluator(distances),
+                                    BOT_THINKING_TIME, table));
+                }
+            }
             view.setVisible(true);
         });
     }
@@ -0,0 +1,246 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.Board;
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.Player;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.moves.PawnMove;
+import it.units.quoridor.engine.moves.WallMove;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bot searching pawn moves and path-cutting walls with alpha-beta pruning and iterative
+ * deepening under a hard time budget.
+ *
+ * <p>With more than two players the search is "paranoid": every opponent is assumed to play
+ * against the bot, which keeps it a two-sided minimax. Moves are ordered by their immediate
+ * effect on path lengths, and the best root move of each iteration is searched first in the
+ * next one. When the budget runs out mid-iteration the result of the last completed iteration
+ * is played (or the best-ordered move if not even depth 1 completed).
+ *
+ * <p>Results are cached in a {@link TranspositionTable} keyed by {@link GameState#zobristKey()},
+ * so positions reached through different move orders, or searched in an earlier iteration,
+ * are not searched again. A table may be shared by several bots.
+ */
+public class AlphaBetaBot implements Bot {
+
+    static final int WIN_SCORE = 1_000_000;
+
+    private static final int MAX_DEPTH = 64;
+    private static final int CLOCK_CHECK_INTERVAL = 64;
+    private static final int DEFAULT_TABLE_ENTRIES = 1 << 18;
+
+    private final GameSimulator simulator;
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private final long budgetNanos;
+
+    // Per-search state; chooseMove is synchronized so one bot can serve a single search at a time
+    private PlayerId root;
+    private long perspective;
+    private long deadline;
+    private long nodes;
+    private int completedDepth;
+
+    public AlphaBetaBot(GameSimulator simulator, Evaluator evaluator, Duration budget) {
+        this(simulator, evaluator, budget, new TranspositionTable(DEFAULT_TABLE_ENTRIES));
+    }
+
+    public AlphaBetaBot(GameSimulator simulator, Evaluator evaluator, Duration budget,
+                        TranspositionTable table) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("budget must be positive");
+        }
+        this.simulator = simulator;
+        this.evaluator = evaluator;
+        this.table = table;
+        this.budgetNanos = budget.toNanos();
+    }
+
+    @Override
+    public synchronized Move chooseMove(GameState state) {
+        if (state.isGameOver()) {
+            throw new IllegalStateException("Game is over");
+        }
+        root = state.currentPlayerId();
+        // Scores are from the root player's side: keep other roots' entries apart in a shared table
+        perspective = (root.ordinal() + 1) * 0x9E3779B97F4A7C15L;
+        table.newSearch();
+        deadline = System.nanoTime() + budgetNanos;
+        nodes = 0;
+        completedDepth = 0;
+
+        List<Move> moves = orderedMoves(state, MoveCodec.NONE);
+        if (moves.isEmpty()) {
+            throw new IllegalStateException("No legal move for " + root);
+        }
+
+        Move best = moves.get(0);
+        for (int depth = 1; depth <= MAX_DEPTH; depth++) {
+            int bestScore;
+            try {
+                int alpha = -Integer.MAX_VALUE;
+                Move iterationBest = best;
+                for (Move move : moves) {
+                    int score = search(simulator.play(state, move), depth - 1, 1, alpha, Integer.MAX_VALUE);
+                    if (score > alpha) {
+                        alpha = score;
+                        iterationBest = move;
+                    }
+                }
+                best = iterationBest;
+                bestScore = alpha;
+            } catch (SearchTimeout timeout) {
+                break;
+            }
+
+            completedDepth = depth;
+            moves.remove(best);
+            moves.add(0, best);
+            if (Math.abs(bestScore) >= WIN_SCORE - MAX_DEPTH) break; // forced result, deeper won't change it
+        }
+        return best;
+    }
+
+    /** Depth of the last fully searched iteration of the most recent {@link #chooseMove}. */
+    synchronized int completedDepth() {
+        return completedDepth;
+    }
+
+    // Minimax from the root player's point of view: the root maximizes, everyone else minimizes.
+    private int search(GameState state, int depth, int ply, int alpha, int beta) {
+        if (++nodes % CLOCK_CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) {
+            throw SearchTimeout.INSTANCE;
+        }
+        if (state.isGameOver()) {
+            return state.winner() == root ? WIN_SCORE - ply : -(WIN_SCORE - ply);
+        }
+        if (depth == 0) {
+            return evaluator.evaluate(state, root);
+        }
+
+        long key = state.zobristKey() ^ perspective;
+        long entry = table.probe(key);
+        int tableMove = entry == TranspositionTable.MISS ? MoveCodec.NONE : TranspositionTable.move(entry);
+        if (entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= depth) {
+            int score = fromTable(TranspositionTable.score(entry), ply);
+            switch (TranspositionTable.bound(entry)) {
+                case TranspositionTable.EXACT -> { return score; }
+                case TranspositionTable.LOWER_BOUND -> alpha = Math.max(alpha, score);
+                default -> beta = Math.min(beta, score);
+            }
+            if (alpha >= beta) return score;
+        }
+        List<Move> moves = orderedMoves(state, tableMove);
+        if (moves.isEmpty()) {
+            // A pawn boxed in by other pawns, with no walls left: not a decided game, and the
+            // unchanged sentinels below must not reach the table
+            return evaluator.evaluate(state, root);
+        }
+        int alphaBefore = alpha;
+        int betaBefore = beta;
+
+        boolean maximizing = state.currentPlayerId() == root;
+        int best = maximizing ? -Integer.MAX_VALUE : Integer.MAX_VALUE;
+        int bestMove = MoveCodec.NONE;
+        for (Move move : moves) {
+            int score = search(simulator.play(state, move), depth - 1, ply + 1, alpha, beta);
+            if (maximizing ? score > best : score < best) {
+                best = score;
+                bestMove = MoveCodec.encode(move);
+            }
+            if (maximizing) {
+                alpha = Math.max(alpha, score);
+            } else {
+                beta = Math.min(beta, score);
+            }
+            if (alpha >= beta) break;
+        }
+
+        int bound = best <= alphaBefore ? TranspositionTable.UPPER_BOUND
+                : best >= betaBefore ? TranspositionTable.LOWER_BOUND
+                : TranspositionTable.EXACT;
+        table.store(key, depth, bound, toTable(best, ply), bestMove);
+        return best;
+    }
+
+    // Win scores count plies from the root; the table stores them relative to the node instead,
+    // so an entry stays valid when the position is reached at another ply.
+    private static int toTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_DEPTH * 2) return score + ply;
+        if (score <= -(WIN_SCORE - MAX_DEPTH * 2)) return score - ply;
+        return score;
+    }
+
+    private static int fromTable(int score, int ply) {
+        if (score >= WIN_SCORE - MAX_DEPTH * 2) return score - ply;
+        if (score <= -(WIN_SCORE - MAX_DEPTH * 2)) return score + ply;
+        return score;
+    }
+
+    // Moves of the player to move, most promising first: the table's best move if any, then
+    // pawn moves by steps gained and walls by how much they lengthen the opponents' paths
+    // relative to the mover's own.
+    private List<Move> orderedMoves(GameState state, int firstMove) {
+        PlayerId mover = state.currentPlayerId();
+        DistanceOracle distances = simulator.distances();
+        Board board = state.board();
+        int ownDistance = distances.distanceToGoal(board, mover);
+        int opponentsDistance = opponentsDistance(state, board, mover);
+
+        List<Move> moves = new ArrayList<>(simulator.pawnMoves(state));
+        moves.addAll(simulator.wallMoves(state));
+
+        // Sort keys pack (-gain, index) so a primitive sort orders by gain, ties in generation order
+        long[] keys = new long[moves.size()];
+        for (int i = 0; i < keys.length; i++) {
+            Move move = moves.get(i);
+            int gain;
+            if (MoveCodec.encode(move) == firstMove) {
+                gain = Integer.MAX_VALUE;
+            } else if (move instanceof PawnMove pawnMove) {
+                gain = ownDistance - distances.distanceToGoal(board, mover, pawnMove.to());
+            } else {
+                Board walled = board.addWall(((WallMove) move).wall());
+                gain = (opponentsDistance(state, walled, mover) - opponentsDistance)
+                        - (distances.distanceToGoal(walled, mover) - ownDistance);
+            }
+            keys[i] = ((long) -gain << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        List<Move> ordered = new ArrayList<>(keys.length);
+        for (long key : keys) {
+            ordered.add(moves.get((int) key));
+        }
+        return ordered;
+    }
+
+    private int opponentsDistance(GameState state, Board board, PlayerId mover) {
+        int total = 0;
+        for (Player player : state.players()) {
+            if (player.id() != mover) {
+                total += simulator.distances().distanceToGoal(board, player.id());
+            }
+        }
+        return total;
+    }
+
+    // Thrown to unwind the search when the budget is exhausted; stackless and shared
+    private static final class SearchTimeout extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        static final SearchTimeout INSTANCE = new SearchTimeout();
+
+        private SearchTimeout() {
+            super(null, null, false, false);
+        }
+    }
+}
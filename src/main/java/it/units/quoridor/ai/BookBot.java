@@ -0,0 +1,54 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.validation.PawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+
+/**
+ * Plays the {@link OpeningBook}'s best move while the game is in book, and lets another bot search
+ * once it is out. Book moves are checked for legality, so a Zobrist collision falls back to search.
+ */
+public final class BookBot implements Bot {
+
+    private final OpeningBook book;
+    private final Bot fallback;
+    private final GameRules rules;
+    private final int minVisits;
+    private final PawnMoveValidator pawnValidator = new QuoridorPawnMoveValidator();
+
+    /** @param minVisits how often a move must have been played to be trusted */
+    public BookBot(OpeningBook book, Bot fallback, GameRules rules, int minVisits) {
+        this.book = book;
+        this.fallback = fallback;
+        this.rules = rules;
+        this.minVisits = minVisits;
+    }
+
+    @Override
+    public Move chooseMove(GameState state) {
+        int move = book.bestMove(state.zobristKey(), minVisits);
+        if (move != MoveCodec.NONE && isLegal(state, move)) {
+            return MoveCodec.decode(state.currentPlayerId(), move);
+        }
+        return fallback.chooseMove(state);
+    }
+
+    /** Closes the searching bot. */
+    @Override
+    public void close() {
+        fallback.close();
+    }
+
+    // Checks just the book move: a pawn move against the pawn rules, a wall with its path checks
+    private boolean isLegal(GameState state, int move) {
+        if (!MoveCodec.isValid(move)) return false;
+        if (MoveCodec.isWall(move)) {
+            return SearchBoard.from(state, rules).isLegalWall(move);
+        }
+        return pawnValidator.canMovePawn(state, state.currentPlayerId(), MoveCodec.destination(move));
+    }
+}
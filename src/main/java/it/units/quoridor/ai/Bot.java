@@ -0,0 +1,18 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.engine.moves.Move;
+
+/**
+ * A computer player. Given a game in progress, picks a legal move for the player to move;
+ * the caller plays it through {@link Move#applyTo}. May block for as long as the bot thinks,
+ * so it must not be called on the Swing event thread.
+ *
+ * <p>Bots that keep threads between moves release them in {@link #close}.
+ */
+public interface Bot extends AutoCloseable {
+    Move chooseMove(GameState state);
+
+    @Override
+    default void close() {}
+}
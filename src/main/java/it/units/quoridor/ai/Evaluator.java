@@ -0,0 +1,10 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.PlayerId;
+
+/** Static evaluation of a non-terminal position, from the point of view of one player. */
+public interface Evaluator {
+    /** Higher is better for {@code perspective}. */
+    int evaluate(GameState state, PlayerId perspective);
+}
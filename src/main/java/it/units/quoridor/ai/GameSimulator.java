@@ -0,0 +1,150 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.PawnMove;
+import it.units.quoridor.engine.moves.PawnMoveGenerator;
+import it.units.quoridor.engine.moves.WallMove;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+import it.units.quoridor.logic.rules.WinChecker;
+import it.units.quoridor.logic.validation.PawnMoveValidator;
+import it.units.quoridor.logic.validation.WallPlacementValidator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Plays moves on immutable {@link GameState}s the way {@code QuoridorEngine} does, so bots can
+ * look ahead without touching the real game. Legality is delegated to the same validators.
+ */
+public class GameSimulator {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int WALL_SIZE = WallPosition.MAX_COORDINATE + 1;
+
+    private final PawnMoveGenerator pawnMoveGenerator;
+    private final WallPlacementValidator wallValidator;
+    private final WinChecker winChecker;
+    private final DistanceOracle distances;
+
+    public GameSimulator(PawnMoveValidator pawnValidator, WallPlacementValidator wallValidator,
+                         WinChecker winChecker, DistanceOracle distances) {
+        this.pawnMoveGenerator = new PawnMoveGenerator(pawnValidator);
+        this.wallValidator = wallValidator;
+        this.winChecker = winChecker;
+        this.distances = distances;
+    }
+
+    public DistanceOracle distances() {
+        return distances;
+    }
+
+    /** Legal pawn moves of the player to move. */
+    public List<Move> pawnMoves(GameState state) {
+        PlayerId player = state.currentPlayerId();
+        int[] cells = new int[PawnMoveGenerator.MAX_DESTINATIONS];
+        int count = pawnMoveGenerator.legalDestinations(state, player, cells);
+        List<Move> moves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            moves.add(new PawnMove(player, Position.ofIndex(cells[i])));
+        }
+        return moves;
+    }
+
+    /**
+     * Legal walls of the player to move that cut some opponent's shortest path.
+     *
+     * <p>Any other wall leaves that path, and so every opponent's distance, unchanged; dropping
+     * those walls shrinks the branching factor from ~130 to a few dozen without losing a wall
+     * that could improve the evaluation.
+     */
+    public List<Move> wallMoves(GameState state) {
+        PlayerId player = state.currentPlayerId();
+        if (state.player(player).wallsRemaining() == 0) return List.of();
+
+        Board board = state.board();
+        long horizontal = 0L;
+        long vertical = 0L;
+        for (Player opponent : state.players()) {
+            if (opponent.id() == player) continue;
+            long[] cutting = wallsCuttingShortestPath(board, opponent.id());
+            horizontal |= cutting[0];
+            vertical |= cutting[1];
+        }
+
+        List<Move> moves = new ArrayList<>();
+        addLegalWalls(state, player, horizontal, WallOrientation.HORIZONTAL, moves);
+        addLegalWalls(state, player, vertical, WallOrientation.VERTICAL, moves);
+        return moves;
+    }
+
+    /** The state after the player to move plays {@code move}; the move must be legal. */
+    public GameState play(GameState state, Move move) {
+        if (move instanceof PawnMove pawnMove) {
+            GameState moved = state.withPawnMovedTo(pawnMove.playerId(), pawnMove.to());
+            return winChecker.isWin(moved, pawnMove.playerId())
+                    ? moved.withGameFinished(pawnMove.playerId())
+                    : moved.withNextTurn();
+        }
+        WallMove wallMove = (WallMove) move;
+        return state.withWallPlaced(wallMove.playerId(), wallMove.wall()).withNextTurn();
+    }
+
+    private void addLegalWalls(GameState state, PlayerId player, long candidates,
+                               WallOrientation orientation, List<Move> moves) {
+        for (long rest = candidates; rest != 0; rest &= rest - 1) {
+            int slot = Long.numberOfTrailingZeros(rest);
+            Wall wall = Wall.of(orientation, slot);
+            if (wallValidator.canPlaceWall(state, player, wall)) {
+                moves.add(new WallMove(player, wall));
+            }
+        }
+    }
+
+    // Walks one shortest path downhill on the distance map and collects, per orientation,
+    // the wall slots blocking any of its edges. Empty when the goal is unreachable.
+    private long[] wallsCuttingShortestPath(Board board, PlayerId player) {
+        int[] distance = distances.distanceMap(board, player);
+        Position start = board.playerPosition(player);
+        long[] cutting = new long[2];
+        if (start == null) return cutting;
+
+        int cell = start.index();
+        while (distance[cell] > 0) {
+            int blocked = board.blockedDirectionMask(cell);
+            for (Direction direction : DIRECTIONS) {
+                if ((blocked & (1 << direction.ordinal())) != 0) continue;
+                int next = Position.neighbour(cell, direction);
+                if (next != Position.OFF_BOARD && distance[next] == distance[cell] - 1) {
+                    Position at = Position.ofIndex(cell);
+                    markCuttingWalls(cutting, at.row(), at.col(), direction);
+                    cell = next;
+                    break;
+                }
+            }
+        }
+        return cutting;
+    }
+
+    // A horizontal wall at (r, c) blocks the vertical edges above (r, c) and (r, c + 1);
+    // a vertical wall at (r, c) blocks the horizontal edges right of (r, c) and (r + 1, c).
+    private static void markCuttingWalls(long[] cutting, int row, int col, Direction direction) {
+        switch (direction) {
+            case NORTH -> markPair(cutting, 0, row, col - 1, row, col);
+            case SOUTH -> markPair(cutting, 0, row - 1, col - 1, row - 1, col);
+            case EAST -> markPair(cutting, 1, row - 1, col, row, col);
+            case WEST -> markPair(cutting, 1, row - 1, col - 1, row, col - 1);
+        }
+    }
+
+    private static void markPair(long[] cutting, int orientation, int row1, int col1, int row2, int col2) {
+        mark(cutting, orientation, row1, col1);
+        mark(cutting, orientation, row2, col2);
+    }
+
+    private static void mark(long[] cutting, int orientation, int row, int col) {
+        if (row >= 0 && row < WALL_SIZE && col >= 0 && col < WALL_SIZE) {
+            cutting[orientation] |= 1L << (row * WALL_SIZE + col);
+        }
+    }
+}
@@ -0,0 +1,409 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.WallOrientation;
+import it.units.quoridor.domain.WallPosition;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.logic.rules.GameRules;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Monte Carlo Tree Search bot (UCT) running playouts on several worker threads that share one
+ * tree ("tree parallelism").
+ *
+ * <ul>
+ *   <li><b>Progressive widening</b> — pawn moves are always candidates; walls are ranked once
+ *       per node by how much they lengthen the opponents' paths against the mover's own, and
+ *       only the best {@code ~sqrt(visits)} of them are open to selection.</li>
+ *   <li><b>Virtual loss</b> — a worker descending through a node counts as a lost visit until
+ *       it backs up its result, steering concurrent workers to other branches.</li>
+ *   <li><b>Playouts</b> — mostly step along a shortest path, sometimes drop a random legal
+ *       wall; a playout that runs too long is won by the player closest to their goal.</li>
+ * </ul>
+ *
+ * Each worker plays on its own {@link SearchBoard} with make/unmake, so playouts allocate
+ * nothing per ply. With more than two players each node is scored for the player who moved
+ * into it.
+ *
+ * <p>The worker threads are started by the first search and kept for the next ones; {@link #close}
+ * releases them.
+ */
+public class MctsBot implements Bot {
+
+    private static final double EXPLORATION = 1.4;
+    private static final double WIDENING = 1.5;
+    private static final int WALL_PLAYOUT_PERCENT = 15;
+    private static final int RANDOM_STEP_PERCENT = 10;
+    private static final int WALL_TRIES = 8;
+    private static final int MAX_PLAYOUT_PLIES = 200;
+    private static final int WALL_SLOTS = (WallPosition.MAX_COORDINATE + 1) * (WallPosition.MAX_COORDINATE + 1);
+
+    private final GameRules rules;
+    private final long budgetNanos;
+    private final int workers;
+    private final long maxPlayouts;
+    private final long seed;
+    private final Object poolLock = new Object();
+    private ExecutorService pool;  // guarded by poolLock
+
+    private final AtomicLong playouts = new AtomicLong();
+
+    public MctsBot(GameRules rules, Duration budget, int workers) {
+        this(rules, budget, workers, Long.MAX_VALUE, System.nanoTime());
+    }
+
+    // for tests -> package-private: stop after maxPlayouts, reproducible per worker
+    MctsBot(GameRules rules, Duration budget, int workers, long maxPlayouts, long seed) {
+        if (budget.isNegative() || budget.isZero()) {
+            throw new IllegalArgumentException("budget must be positive");
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be at least 1");
+        }
+        this.rules = rules;
+        this.budgetNanos = budget.toNanos();
+        this.workers = workers;
+        this.maxPlayouts = maxPlayouts;
+        this.seed = seed;
+    }
+
+    @Override
+    public synchronized Move chooseMove(GameState state) {
+        if (state.isGameOver()) {
+            throw new IllegalStateException("Game is over");
+        }
+        SearchBoard rootBoard = SearchBoard.from(state, rules);
+        Node root = new Node(MoveCodec.NONE, -1);
+        root.expand(rootBoard);
+        if (root.moves.length == 0) {
+            throw new IllegalStateException("No legal move for " + state.currentPlayerId());
+        }
+
+        playouts.set(0);
+        if (root.moves.length > 1) {
+            long deadline = System.nanoTime() + budgetNanos;
+            List<Future<?>> running = new ArrayList<>(workers);
+            synchronized (poolLock) {
+                ExecutorService executor = pool();
+                for (int i = 0; i < workers; i++) {
+                    Worker worker = new Worker(root, rootBoard.copy(), new SplittableRandom(seed + i), deadline);
+                    running.add(executor.submit(worker::run));
+                }
+            }
+            awaitAll(running);
+        }
+
+        return MoveCodec.decode(state.currentPlayerId(), root.mostVisitedMove());
+    }
+
+    /**
+     * Stops the worker threads once the search in progress, if any, is over. The bot stays
+     * usable: the next {@link #chooseMove} starts new workers.
+     */
+    @Override
+    public void close() {
+        synchronized (poolLock) {
+            if (pool != null) {
+                pool.shutdown();
+                pool = null;
+            }
+        }
+    }
+
+    /** Playouts run by the most recent {@link #chooseMove}. */
+    long lastPlayouts() {
+        return playouts.get();
+    }
+
+    private ExecutorService pool() {
+        if (pool == null) {
+            AtomicInteger threads = new AtomicInteger();
+            pool = Executors.newFixedThreadPool(workers, task -> {
+                Thread thread = new Thread(task, "mcts-worker-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return pool;
+    }
+
+    private static void awaitAll(List<Future<?>> running) {
+        try {
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            running.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while searching", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Search worker failed", e.getCause());
+        }
+    }
+
+    // ── Tree ─────────────────────────────────────────────────
+
+    private static final class Node {
+        final int move;
+        final int mover;   // seat that played `move` to reach this node
+        final AtomicInteger visits = new AtomicInteger();
+        final AtomicInteger wins = new AtomicInteger();
+        final AtomicInteger virtualLosses = new AtomicInteger();
+
+        // Candidate moves, pawn moves first then walls best-first; published once by expand()
+        volatile int[] moves;
+        int pawnMoves;
+        AtomicReferenceArray<Node> children;
+
+        Node(int move, int mover) {
+            this.move = move;
+            this.mover = mover;
+        }
+
+        void expand(SearchBoard board) {
+            if (moves != null) return;
+            synchronized (this) {
+                if (moves != null) return;
+                int[] buffer = new int[SearchBoard.MAX_MOVES];
+                int pawnEnd = board.pawnMoves(buffer, 0);
+                int end = board.wallMoves(buffer, pawnEnd);
+                rankWalls(board, buffer, pawnEnd, end);
+
+                pawnMoves = pawnEnd;
+                children = new AtomicReferenceArray<>(end);
+                moves = Arrays.copyOf(buffer, end);
+            }
+        }
+
+        // Children open to selection: every pawn move, plus walls as the node gets visited
+        int openChildren() {
+            int walls = moves.length - pawnMoves;
+            int open = (int) (WIDENING * Math.sqrt(visits.get() + 1));
+            return pawnMoves + Math.min(walls, open);
+        }
+
+        Node child(int index, int mover) {
+            Node child = children.get(index);
+            if (child == null) {
+                children.compareAndSet(index, null, new Node(moves[index], mover));
+                child = children.get(index);
+            }
+            return child;
+        }
+
+        int mostVisitedMove() {
+            int best = moves[0];
+            int bestVisits = -1;
+            for (int i = 0; i < moves.length; i++) {
+                Node child = children.get(i);
+                int childVisits = child == null ? 0 : child.visits.get();
+                if (childVisits > bestVisits) {
+                    bestVisits = childVisits;
+                    best = moves[i];
+                }
+            }
+            return best;
+        }
+    }
+
+    // Sorts walls [from, to) by (opponents' distance gained - own distance lost), best first
+    private static void rankWalls(SearchBoard board, int[] moves, int from, int to) {
+        int seat = board.currentSeat();
+        int own = board.distanceToGoal(seat);
+        int opponents = opponentsDistance(board, seat);
+
+        long[] keys = new long[to - from];
+        for (int i = from; i < to; i++) {
+            board.make(moves[i]);
+            int gain = (opponentsDistance(board, seat) - opponents) - (board.distanceToGoal(seat) - own);
+            board.unmake(moves[i]);
+            keys[i - from] = ((long) -gain << 32) | moves[i];
+        }
+        Arrays.sort(keys);
+        for (int i = from; i < to; i++) {
+            moves[i] = (int) keys[i - from];
+        }
+    }
+
+    private static int opponentsDistance(SearchBoard board, int seat) {
+        int total = 0;
+        for (int other = 0; other < board.playerCount(); other++) {
+            if (other != seat) total += board.distanceToGoal(other);
+        }
+        return total;
+    }
+
+    // ── Workers ──────────────────────────────────────────────
+
+    private final class Worker {
+        private final Node root;
+        private final SearchBoard board;
+        private final SplittableRandom random;
+        private final long deadline;
+
+        private Node[] path = new Node[64];
+        private int[] played = new int[256];
+        private final int[] buffer = new int[SearchBoard.MAX_MOVES];
+
+        Worker(Node root, SearchBoard board, SplittableRandom random, long deadline) {
+            this.root = root;
+            this.board = board;
+            this.random = random;
+            this.deadline = deadline;
+        }
+
+        void run() {
+            while (System.nanoTime() - deadline < 0 && playouts.getAndIncrement() < maxPlayouts) {
+                iterate();
+            }
+        }
+
+        private void iterate() {
+            int depth = 0;
+            int plies = 0;
+            Node node = root;
+            path[0] = root;
+
+            // Selection / expansion: descend until a new node or the end of the game
+            while (!board.isGameOver()) {
+                node.expand(board);
+                if (node.moves.length == 0) break;   // stuck: no step and no wall left
+                int seat = board.currentSeat();
+                Node child = node.child(select(node), seat);
+                child.virtualLosses.incrementAndGet();
+
+                board.make(child.move);
+                plies = push(plies, child.move);
+                if (++depth == path.length) path = Arrays.copyOf(path, depth * 2);
+                path[depth] = child;
+
+                node = child;
+                if (child.visits.get() == 0) break;
+            }
+
+            // Simulation
+            plies = playout(plies);
+            int winner = board.isGameOver() ? board.currentSeat() : closestToGoal();
+
+            // Backpropagation
+            for (int i = depth; i >= 0; i--) {
+                Node visited = path[i];
+                visited.visits.incrementAndGet();
+                if (visited.mover == winner) visited.wins.incrementAndGet();
+                if (i > 0) visited.virtualLosses.decrementAndGet();
+            }
+            while (plies > 0) {
+                board.unmake(played[--plies]);
+            }
+        }
+
+        // UCT over the open children; unvisited ones first, in ranking order
+        private int select(Node node) {
+            int open = node.openChildren();
+            double logParent = Math.log(node.visits.get() + node.virtualLosses.get() + 1);
+            int best = 0;
+            double bestValue = Double.NEGATIVE_INFINITY;
+
+            for (int i = 0; i < open; i++) {
+                Node child = node.children.get(i);
+                int tries = child == null ? 0 : child.visits.get() + child.virtualLosses.get();
+                if (tries == 0) return i;
+
+                double value = (double) child.wins.get() / tries
+                        + EXPLORATION * Math.sqrt(logParent / tries);
+                if (value > bestValue) {
+                    bestValue = value;
+                    best = i;
+                }
+            }
+            return best;
+        }
+
+        private int playout(int plies) {
+            for (int ply = 0; ply < MAX_PLAYOUT_PLIES && !board.isGameOver(); ply++) {
+                int seat = board.currentSeat();
+                int move = MoveCodec.NONE;
+                if (board.wallsRemaining(seat) > 0 && random.nextInt(100) < WALL_PLAYOUT_PERCENT) {
+                    move = randomWall();
+                }
+                if (move == MoveCodec.NONE) {
+                    move = pawnStep(seat);
+                }
+                if (move == MoveCodec.NONE) break;
+                board.make(move);
+                plies = push(plies, move);
+            }
+            return plies;
+        }
+
+        private int randomWall() {
+            for (int i = 0; i < WALL_TRIES; i++) {
+                int move = MoveCodec.wall(random.nextBoolean()
+                        ? WallOrientation.HORIZONTAL
+                        : WallOrientation.VERTICAL, random.nextInt(WALL_SLOTS));
+                if (board.isLegalWall(move)) return move;
+            }
+            return MoveCodec.NONE;
+        }
+
+        // A step along a shortest path (ties broken at random), or now and then any step
+        private int pawnStep(int seat) {
+            int count = board.pawnMoves(buffer, 0);
+            if (count == 0) {
+                return board.wallsRemaining(seat) > 0 ? randomWall() : MoveCodec.NONE;
+            }
+            if (random.nextInt(100) < RANDOM_STEP_PERCENT) {
+                return buffer[random.nextInt(count)];
+            }
+            int best = buffer[0];
+            int bestDistance = Integer.MAX_VALUE;
+            int ties = 0;
+            for (int i = 0; i < count; i++) {
+                board.make(buffer[i]);
+                int distance = board.isGameOver() ? 0 : board.distanceToGoal(seat);
+                board.unmake(buffer[i]);
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = buffer[i];
+                    ties = 1;
+                } else if (distance == bestDistance && random.nextInt(++ties) == 0) {
+                    best = buffer[i];
+                }
+            }
+            return best;
+        }
+
+        private int closestToGoal() {
+            int best = 0;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int seat = 0; seat < board.playerCount(); seat++) {
+                int distance = board.distanceToGoal(seat);
+                if (distance >= 0 && distance < bestDistance) {
+                    bestDistance = distance;
+                    best = seat;
+                }
+            }
+            return best;
+        }
+
+        private int push(int plies, int move) {
+            if (plies == played.length) played = Arrays.copyOf(played, plies * 2);
+            played[plies] = move;
+            return plies + 1;
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.engine.moves.MoveCodec;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Move statistics of book positions, keyed by 64-bit Zobrist keys and held in parallel primitive
+ * arrays sorted by key, then move. A lookup is a binary search over the keys, so the book needs
+ * no per-entry objects: an entry costs 21 bytes (key, move, visits, wins, average game length).
+ *
+ * <p>Wins count the games won by the player who made the move. Books are built offline by
+ * {@link OpeningBookBuilder} and saved as one file:
+ * <pre>
+ *   file := magic:u32  entries:u32  key:u64 * entries  move:u8 * entries
+ *           visits:u32 * entries  wins:u32 * entries  averageLength:f32 * entries
+ * </pre>
+ * which {@link #load} reads with bulk buffer copies. Immutable once built; safe to share.
+ */
+public final class OpeningBook {
+
+    /** Statistics of one move from a book position. */
+    public record BookMove(int move, int visits, int wins, float averageLength) {
+
+        /** Share of the games won by the player who made the move. */
+        public double winRate() {
+            return visits == 0 ? 0 : (double) wins / visits;
+        }
+    }
+
+    public static final OpeningBook EMPTY =
+            new OpeningBook(new long[0], new byte[0], new int[0], new int[0], new float[0]);
+
+    static final int MAGIC = 0x514F4231;  // "QOB1"
+    private static final int HEADER_BYTES = 8;
+    private static final int ENTRY_BYTES = Long.BYTES + 1 + Integer.BYTES * 2 + Float.BYTES;
+
+    private final long[] keys;
+    private final byte[] moves;
+    private final int[] visits;
+    private final int[] wins;
+    private final float[] averageLengths;
+
+    /** Arrays must have equal lengths and be sorted by key, then move. */
+    OpeningBook(long[] keys, byte[] moves, int[] visits, int[] wins, float[] averageLengths) {
+        this.keys = keys;
+        this.moves = moves;
+        this.visits = visits;
+        this.wins = wins;
+        this.averageLengths = averageLengths;
+    }
+
+    /** Number of (position, move) entries. */
+    public int size() {
+        return keys.length;
+    }
+
+    /** Whether the position with this key is in the book. */
+    public boolean contains(long key) {
+        return first(key) >= 0;
+    }
+
+    /** Book moves from the position with this key, by move code; empty if it is not in the book. */
+    public List<BookMove> moves(long key) {
+        List<BookMove> result = new ArrayList<>();
+        for (int i = first(key); i >= 0 && i < keys.length && keys[i] == key; i++) {
+            result.add(new BookMove(moves[i] & 0xFF, visits[i], wins[i], averageLengths[i]));
+        }
+        return result;
+    }
+
+    /**
+     * The most played move from the position with this key among those played at least
+     * {@code minVisits} times, ties going to the higher win rate; {@link MoveCodec#NONE} if there
+     * is none. Allocates nothing.
+     */
+    public int bestMove(long key, int minVisits) {
+        int best = -1;
+        for (int i = first(key); i >= 0 && i < keys.length && keys[i] == key; i++) {
+            if (visits[i] < minVisits) continue;
+            if (best < 0 || visits[i] > visits[best]
+                    || (visits[i] == visits[best] && (long) wins[i] * visits[best] > (long) wins[best] * visits[i])) {
+                best = i;
+            }
+        }
+        return best < 0 ? MoveCodec.NONE : moves[best] & 0xFF;
+    }
+
+    // Index of the first entry with this key, or -1
+    private int first(long key) {
+        int i = Arrays.binarySearch(keys, key);
+        if (i < 0) return -1;
+        while (i > 0 && keys[i - 1] == key) i--;
+        return i;
+    }
+
+    public void save(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(keys.length);
+            for (long key : keys) out.writeLong(key);
+            out.write(moves);
+            for (int visit : visits) out.writeInt(visit);
+            for (int win : wins) out.writeInt(win);
+            for (float length : averageLengths) out.writeFloat(length);
+        }
+    }
+
+    public static OpeningBook load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES || size > Integer.MAX_VALUE) throw new IOException("Not an opening book");
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+
+            if (buffer.getInt() != MAGIC) throw new IOException("Not an opening book");
+            int count = buffer.getInt();
+            if (count < 0 || size != HEADER_BYTES + (long) count * ENTRY_BYTES) {
+                throw new IOException("Corrupt opening book");
+            }
+
+            long[] keys = new long[count];
+            byte[] moves = new byte[count];
+            int[] visits = new int[count];
+            int[] wins = new int[count];
+            float[] averageLengths = new float[count];
+            buffer.asLongBuffer().get(keys);
+            buffer.position(buffer.position() + count * Long.BYTES);
+            buffer.get(moves);
+            buffer.asIntBuffer().get(visits);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            buffer.asIntBuffer().get(wins);
+            buffer.position(buffer.position() + count * Integer.BYTES);
+            buffer.asFloatBuffer().get(averageLengths);
+            return new OpeningBook(keys, moves, visits, wins, averageLengths);
+        }
+    }
+}
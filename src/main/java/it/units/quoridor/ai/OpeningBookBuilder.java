@@ -0,0 +1,157 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.record.GameArchive;
+import it.units.quoridor.record.PlyVisitor;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * Collects move statistics from recorded games into an {@link OpeningBook}: for every position
+ * of the first {@code maxPly} plies, how often each move was played, how often its player went on
+ * to win, and how long those games lasted.
+ *
+ * <p>Feed it whole archives with {@link #add(GameArchive)}, or use it as the {@link PlyVisitor}
+ * of {@link GameArchive#scan}. Statistics accumulate in an open-addressing table of primitive
+ * arrays keyed by (Zobrist key, move). Not thread-safe.
+ */
+public final class OpeningBookBuilder implements PlyVisitor {
+
+    private final int maxPly;
+
+    private long[] keys = new long[1 << 12];
+    private byte[] moves = new byte[keys.length];
+    private int[] visits = new int[keys.length];
+    private int[] wins = new int[keys.length];
+    private long[] lengthSums = new long[keys.length];
+    private int used;  // a slot is free while its visits are 0: any key, even 0, is valid
+
+    // Book plies of the game being scanned
+    private final long[] gameKeys;
+    private final int[] gameMoves;
+    private final int[] gameSeats;
+    private int gamePlies;
+    private int gameLength;
+
+    public OpeningBookBuilder(int maxPly) {
+        if (maxPly < 1) throw new IllegalArgumentException("maxPly must be positive");
+        this.maxPly = maxPly;
+        gameKeys = new long[maxPly];
+        gameMoves = new int[maxPly];
+        gameSeats = new int[maxPly];
+    }
+
+    /** Adds every game of the archive. */
+    public OpeningBookBuilder add(GameArchive archive) {
+        archive.scan(this);
+        return this;
+    }
+
+    @Override
+    public void visit(int game, int ply, SearchBoard board, int move) {
+        if (ply == 0) gamePlies = 0;
+        gameLength = ply + 1;
+        if (ply < maxPly) {
+            gameKeys[gamePlies] = board.zobristKey();
+            gameMoves[gamePlies] = move;
+            gameSeats[gamePlies] = board.currentSeat();
+            gamePlies++;
+        }
+    }
+
+    @Override
+    public void gameEnd(int game, SearchBoard board) {
+        int winnerSeat = board.isGameOver() ? board.currentSeat() : -1;
+        for (int i = 0; i < gamePlies; i++) {
+            int slot = slot(gameKeys[i], gameMoves[i]);
+            visits[slot]++;
+            if (gameSeats[i] == winnerSeat) wins[slot]++;
+            lengthSums[slot] += gameLength;
+        }
+        gamePlies = 0;
+        gameLength = 0;
+    }
+
+    /** Number of distinct (position, move) pairs seen so far. */
+    public int size() {
+        return used;
+    }
+
+    /** A book of the moves played at least {@code minVisits} times. */
+    public OpeningBook build(int minVisits) {
+        Integer[] order = IntStream.range(0, keys.length)
+                .filter(slot -> visits[slot] > 0 && visits[slot] >= minVisits)
+                .boxed()
+                .toArray(Integer[]::new);
+        Arrays.sort(order, Comparator.<Integer>comparingLong(slot -> keys[slot])
+                .thenComparingInt(slot -> moves[slot] & 0xFF));
+
+        int count = order.length;
+        long[] bookKeys = new long[count];
+        byte[] bookMoves = new byte[count];
+        int[] bookVisits = new int[count];
+        int[] bookWins = new int[count];
+        float[] averageLengths = new float[count];
+        for (int i = 0; i < count; i++) {
+            int slot = order[i];
+            bookKeys[i] = keys[slot];
+            bookMoves[i] = moves[slot];
+            bookVisits[i] = visits[slot];
+            bookWins[i] = wins[slot];
+            averageLengths[i] = (float) lengthSums[slot] / visits[slot];
+        }
+        return new OpeningBook(bookKeys, bookMoves, bookVisits, bookWins, averageLengths);
+    }
+
+    // Slot of (key, move), claimed if new; linear probing, table kept at most half full
+    private int slot(long key, int move) {
+        if (2 * (used + 1) > keys.length) grow();
+        int slot = find(keys, moves, visits, key, move);
+        if (visits[slot] == 0) {
+            keys[slot] = key;
+            moves[slot] = (byte) move;
+            used++;
+        }
+        return slot;
+    }
+
+    private static int find(long[] keys, byte[] moves, int[] visits, long key, int move) {
+        int mask = keys.length - 1;
+        int slot = hash(key, move) & mask;
+        while (visits[slot] != 0 && (keys[slot] != key || (moves[slot] & 0xFF) != move)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long key, int move) {
+        long h = (key ^ move * 0x9E3779B97F4A7C15L) * 0xBF58476D1CE4E5B9L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        byte[] oldMoves = moves;
+        int[] oldVisits = visits;
+        int[] oldWins = wins;
+        long[] oldLengthSums = lengthSums;
+
+        int capacity = oldKeys.length * 2;
+        keys = new long[capacity];
+        moves = new byte[capacity];
+        visits = new int[capacity];
+        wins = new int[capacity];
+        lengthSums = new long[capacity];
+        for (int old = 0; old < oldKeys.length; old++) {
+            if (oldVisits[old] == 0) continue;
+            int slot = find(keys, moves, visits, oldKeys[old], oldMoves[old] & 0xFF);
+            keys[slot] = oldKeys[old];
+            moves[slot] = oldMoves[old];
+            visits[slot] = oldVisits[old];
+            wins[slot] = oldWins[old];
+            lengthSums[slot] = oldLengthSums[old];
+        }
+    }
+}
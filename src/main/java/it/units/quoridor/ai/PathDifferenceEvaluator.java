@@ -0,0 +1,43 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.Board;
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.Player;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+
+/**
+ * Scores a position by how much closer the player is to their goal than the closest opponent,
+ * with walls in hand as a tie-breaker (a wall can later lengthen an opponent's path).
+ */
+public class PathDifferenceEvaluator implements Evaluator {
+
+    private static final int STEP_WEIGHT = 10;
+    private static final int WALL_WEIGHT = 1;
+
+    private final DistanceOracle distances;
+
+    public PathDifferenceEvaluator(DistanceOracle distances) {
+        this.distances = distances;
+    }
+
+    @Override
+    public int evaluate(GameState state, PlayerId perspective) {
+        Board board = state.board();
+        int own = distances.distanceToGoal(board, perspective);
+
+        int closestOpponent = Integer.MAX_VALUE;
+        int opponentWalls = 0;
+        for (Player opponent : state.players()) {
+            if (opponent.id() == perspective) continue;
+            int distance = distances.distanceToGoal(board, opponent.id());
+            if (distance < closestOpponent) {
+                closestOpponent = distance;
+                opponentWalls = opponent.wallsRemaining();
+            }
+        }
+
+        return STEP_WEIGHT * (closestOpponent - own)
+                + WALL_WEIGHT * (state.player(perspective).wallsRemaining() - opponentWalls);
+    }
+}
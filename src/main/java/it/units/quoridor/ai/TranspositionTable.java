@@ -0,0 +1,185 @@
+package it.units.quoridor.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size transposition table keyed by 64-bit Zobrist keys, stored in two primitive arrays.
+ *
+ * <p>Entries live in two-slot buckets. Each slot holds a packed data word (score, best move,
+ * depth, bound, search generation) and the key XOR-ed with that word. Reads and writes take
+ * no lock: a probe recomputes {@code key ^ data} and only trusts the entry if it matches, so
+ * a slot torn by a concurrent writer reads as a miss instead of as wrong data. Safe to share
+ * between search threads.
+ *
+ * <p>Replacement is by depth: a store overwrites the slot holding the same position, otherwise
+ * the shallower of the two, preferring entries left over from earlier searches.
+ */
+public final class TranspositionTable {
+
+    /** Returned by {@link #probe} when the position is not in the table. */
+    public static final long MISS = 0L;
+    /** Best-move value meaning "no move recorded". */
+    public static final int NO_MOVE = 0xFFFF;
+
+    public static final int EXACT = 0;
+    /** Score is a lower bound (the search failed high). */
+    public static final int LOWER_BOUND = 1;
+    /** Score is an upper bound (the search failed low). */
+    public static final int UPPER_BOUND = 2;
+
+    // data word: score [0,32) | move [32,48) | depth [48,56) | bound [56,58) | generation [58,63) | valid 63
+    private static final int MOVE_SHIFT = 32;
+    private static final int DEPTH_SHIFT = 48;
+    private static final int BOUND_SHIFT = 56;
+    private static final int GENERATION_SHIFT = 58;
+    private static final long VALID = 1L << 63;
+    private static final int MAX_DEPTH = 0xFF;
+    private static final int GENERATIONS = 0x1F;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int bucketMask;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+    private final LongAdder stores = new LongAdder();
+
+    /** @param entries capacity, rounded up to a power of two (at least 2) */
+    public TranspositionTable(int entries) {
+        if (entries <= 0 || entries > 1 << 30) {
+            throw new IllegalArgumentException("entries must be in [1, 2^30]: " + entries);
+        }
+        int capacity = Math.max(2, Integer.highestOneBit(entries - 1) << 1);
+        keys = new long[capacity];
+        data = new long[capacity];
+        bucketMask = (capacity >>> 1) - 1;
+    }
+
+    public int capacity() {
+        return data.length;
+    }
+
+    /** Starts a new search: entries stored so far become preferred victims for replacement. */
+    public void newSearch() {
+        generation = (generation + 1) & GENERATIONS;
+    }
+
+    /** Empties the table and resets the counters. Not safe while other threads use the table. */
+    public void clear() {
+        Arrays.fill(keys, 0L);
+        Arrays.fill(data, 0L);
+        probes.reset();
+        hits.reset();
+        collisions.reset();
+        stores.reset();
+    }
+
+    /**
+     * Looks the position up. Returns the packed entry, to be read with {@link #score},
+     * {@link #move}, {@link #depth} and {@link #bound}, or {@link #MISS}.
+     */
+    public long probe(long key) {
+        probes.increment();
+        int first = bucket(key);
+        for (int slot = first; slot < first + 2; slot++) {
+            long word = data[slot];
+            if ((keys[slot] ^ word) == key && word != MISS) {
+                hits.increment();
+                return word;
+            }
+        }
+        if (data[first] != MISS || data[first + 1] != MISS) {
+            collisions.increment();
+        }
+        return MISS;
+    }
+
+    /**
+     * Records a search result.
+     *
+     * @param depth remaining depth the score was searched to, clamped to 255
+     * @param bound {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     * @param move  best move as a 16-bit code (e.g. a {@code MoveCodec} code), or {@link #NO_MOVE}
+     */
+    public void store(long key, int depth, int bound, int score, int move) {
+        long word = VALID
+                | ((long) generation << GENERATION_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) Math.min(depth, MAX_DEPTH) << DEPTH_SHIFT)
+                | ((long) (move & 0xFFFF) << MOVE_SHIFT)
+                | (score & 0xFFFFFFFFL);
+
+        int first = bucket(key);
+        int victim = first;
+        for (int slot = first; slot < first + 2; slot++) {
+            long existing = data[slot];
+            if ((keys[slot] ^ existing) == key || existing == MISS) {
+                victim = slot;
+                break;
+            }
+            if (replacementCost(existing) < replacementCost(data[victim])) {
+                victim = slot;
+            }
+        }
+
+        long existing = data[victim];
+        if ((keys[victim] ^ existing) == key && existing != MISS
+                && generation(existing) == generation && depth(existing) > depth) {
+            return;  // keep the deeper result for this very position
+        }
+
+        stores.increment();
+        data[victim] = word;
+        keys[victim] = key ^ word;
+    }
+
+    // Lower = better victim: entries from older searches first, then shallower ones
+    private int replacementCost(long word) {
+        return (generation(word) == generation ? 1 << 8 : 0) + depth(word);
+    }
+
+    private int bucket(long key) {
+        return ((int) (key ^ (key >>> 32)) & bucketMask) << 1;
+    }
+
+    public static int score(long entry) {
+        return (int) entry;
+    }
+
+    public static int move(long entry) {
+        return (int) (entry >>> MOVE_SHIFT) & 0xFFFF;
+    }
+
+    public static int depth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    public static int bound(long entry) {
+        return (int) (entry >>> BOUND_SHIFT) & 0b11;
+    }
+
+    private static int generation(long entry) {
+        return (int) (entry >>> GENERATION_SHIFT) & GENERATIONS;
+    }
+
+    /** Snapshot of the usage counters. */
+    public Stats stats() {
+        return new Stats(probes.sum(), hits.sum(), collisions.sum(), stores.sum());
+    }
+
+    /**
+     * @param collisions probes that missed although the bucket held other positions
+     */
+    public record Stats(long probes, long hits, long collisions, long stores) {
+        public double hitRate() {
+            return probes == 0 ? 0.0 : (double) hits / probes;
+        }
+
+        public double collisionRate() {
+            return probes == 0 ? 0.0 : (double) collisions / probes;
+        }
+    }
+}
@@ -1,29 +1,43 @@
 package it.units.quoridor.controller;
 
+import it.units.quoridor.ai.Bot;
 import it.units.quoridor.domain.*;
 import it.units.quoridor.engine.GameEngine;
 import it.units.quoridor.engine.MoveResult;
+import it.units.quoridor.engine.moves.Move;
 import it.units.quoridor.logic.rules.PlayerCount;
 import it.units.quoridor.view.BoardViewModel;
 import it.units.quoridor.view.GameView;
 import it.units.quoridor.view.PlayerViewModel;
 import it.units.quoridor.view.ViewListener;
 
+import javax.swing.SwingUtilities;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 
 /**
  * Translates view events into engine calls and engine state into view models.
  * Flips row coordinates between view (0=top) and domain (0=bottom).
+ *
+ * <p>Players can be handed to a {@link Bot}: on their turn the bot thinks on a background
+ * thread and its move is played back on the UI thread through the engine, like a click.
  */
 public class Controller implements ViewListener {
 
     private final GameEngine engine;
     private final GameView view;
 
+    private final Map<PlayerId, Bot> bots = new EnumMap<>(PlayerId.class);
+    private final Executor uiExecutor;
+    private Executor botExecutor;
+    private GameState botThinkingOn;
+
     private static final int MAX_ROW_INDEX = 8;
     private static final int MAX_WALL_INDEX = 7;
 
@@ -33,21 +47,42 @@ public class Controller implements ViewListener {
     private static int flipWallRow(int row) { return MAX_WALL_INDEX - row; }
 
     public Controller(GameEngine gameEngine, GameView gameView) {
+        this(gameEngine, gameView, null, SwingUtilities::invokeLater);
+    }
+
+    // for tests -> package-private: run bots and UI callbacks on the given executors
+    Controller(GameEngine gameEngine, GameView gameView, Executor botExecutor, Executor uiExecutor) {
         engine = gameEngine;
         view = gameView;
+        this.botExecutor = botExecutor;
+        this.uiExecutor = uiExecutor;
         view.setListener(this);
     }
 
+    /**
+     * Lets {@code bot} play for {@code playerId} from now on, starting right away if it is their turn.
+     * The bot it replaces, if any, is closed.
+     */
+    public void setBot(PlayerId playerId, Bot bot) {
+        Bot previous = bots.put(playerId, bot);
+        if (previous != null && previous != bot) {
+            previous.close();
+        }
+        requestBotMove();
+    }
+
     @Override
     public void onNewGame(int playerCount, List<String> playerNames) {
         PlayerCount count = (playerCount == 4)
                 ? PlayerCount.FOUR_PLAYERS
                 : PlayerCount.TWO_PLAYERS;
         engine.newGame(count, playerNames);
+        releaseUnseatedBots();
         view.hideOverlays();
         updateView();
         view.setUndoEnabled(false);
         view.showMessage("New game started!");
+        requestBotMove();
     }
 
     /**
@@ -62,8 +97,12 @@ public class Controller implements ViewListener {
 
         GameState gameState = engine.gameState();
         Player currentPlayer = gameState.currentPlayer();
+        if (isBotTurn(currentPlayer.id())) {
+            view.showError("Wait for the computer to move");
+            return;
+        }
 
-        Position targetPosition = new Position(flipRow(rowE), col);
+        Position targetPosition = Position.of(flipRow(rowE), col);
 
         MoveResult moveResult = engine.movePawn(currentPlayer.id(), targetPosition);
 
@@ -71,6 +110,8 @@ public class Controller implements ViewListener {
             updateView();
             if (moveResult.isWin()) {
                 view.showGameOver(currentPlayer.name());
+            } else {
+                requestBotMove();
             }
         } else {
             view.showError(moveResult.message());
@@ -89,14 +130,19 @@ public class Controller implements ViewListener {
     public void onWallPlacement(int row, int col, WallOrientation orientation) {
 
         Player currentPlayer = engine.gameState().currentPlayer();
+        if (isBotTurn(currentPlayer.id())) {
+            view.showError("Wait for the computer to move");
+            return;
+        }
 
         try {
-            WallPosition wallPosition = new WallPosition(flipWallRow(row), col);
-            Wall wall  = new Wall(wallPosition, orientation);
+            WallPosition wallPosition = WallPosition.of(flipWallRow(row), col);
+            Wall wall  = Wall.of(wallPosition, orientation);
             MoveResult result = engine.placeWall(currentPlayer.id(), wall);
 
             if (result.isValid()) {
                 updateView();
+                requestBotMove();
             } else {
                 view.showError("Invalid Wall Placement");
             }
@@ -109,18 +155,125 @@ public class Controller implements ViewListener {
     public void onUndo() {
         boolean success = engine.undo();
         if (success) {
+            // Against bots, take back their replies too so the human is to move again
+            while (!bots.isEmpty() && hasHumanPlayer()
+                    && isBotTurn(engine.gameState().currentPlayerId()) && engine.undo()) { }
             updateView();
             view.showMessage("Move undone");
+            requestBotMove();
         } else {
             view.showMessage("Nothing to undo");
         }
     }
 
+    @Override
+    public void onRedo() {
+        boolean success = engine.redo();
+        if (success) {
+            // Against bots, replay their recorded replies too
+            while (!bots.isEmpty() && hasHumanPlayer()
+                    && isBotTurn(engine.gameState().currentPlayerId()) && engine.redo()) { }
+            updateView();
+            view.showMessage("Move redone");
+            requestBotMove();
+        } else {
+            view.showMessage("Nothing to redo");
+        }
+    }
+
+    @Override
+    public void onGoToPly(int ply) {
+        if (engine.goToPly(Math.min(ply, engine.lastPly()))) {
+            updateView();
+            view.showMessage("Move " + engine.currentPly());
+            requestBotMove();
+        } else {
+            view.showMessage("That move is no longer in the history");
+        }
+    }
+
     @Override
     public void onQuit() {
         System.exit(0);
     }
 
+    private boolean isBotTurn(PlayerId playerId) {
+        return playerId != null && bots.containsKey(playerId);
+    }
+
+    // Bots of players left out of the game keep no threads; they restart if seated again
+    private void releaseUnseatedBots() {
+        GameState gameState = engine.gameState();
+        if (gameState == null) return;
+        bots.forEach((playerId, bot) -> {
+            if (gameState.players().stream().noneMatch(p -> p.id() == playerId)) {
+                bot.close();
+            }
+        });
+    }
+
+    private boolean hasHumanPlayer() {
+        return engine.gameState().players().stream().anyMatch(p -> !bots.containsKey(p.id()));
+    }
+
+    /**
+     * If a bot is to move, let it think in the background on a snapshot of the game.
+     * Its answer is only played if the game has not changed meanwhile (undo, new game).
+     */
+    void requestBotMove() {
+        GameState gameState = engine.gameState();
+        if (gameState == null || gameState.isGameOver() || gameState == botThinkingOn) return;
+
+        Bot bot = bots.get(gameState.currentPlayerId());
+        if (bot == null) return;
+
+        botThinkingOn = gameState;
+        botExecutor().execute(() -> {
+            try {
+                Move move = bot.chooseMove(gameState);
+                uiExecutor.execute(() -> playBotMove(gameState, move));
+            } catch (RuntimeException e) {
+                uiExecutor.execute(() -> {
+                    botThinkingOn = null;
+                    view.showError("Computer player failed: " + e.getMessage());
+                });
+            }
+        });
+    }
+
+    private void playBotMove(GameState searched, Move move) {
+        botThinkingOn = null;
+        if (engine.gameState() != searched) {
+            requestBotMove();
+            return;
+        }
+
+        Player bot = searched.currentPlayer();
+        MoveResult result = move.applyTo(engine);
+        if (!result.isValid()) {
+            view.showError("Computer player made an invalid move: " + result.message());
+            return;
+        }
+
+        updateView();
+        if (result.isWin()) {
+            view.showGameOver(bot.name());
+        } else {
+            requestBotMove();
+        }
+    }
+
+    private Executor botExecutor() {
+        if (botExecutor == null) {
+            botExecutor = Executors.newSingleThreadExecutor(task -> {
+                Thread thread = new Thread(task, "quoridor-bot");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return botExecutor;
+    }
+
     /**
      * Synchronize the view with the game engine
      * Read from the state, convert the coordinates and pass to the View
@@ -136,6 +289,7 @@ public class Controller implements ViewListener {
 
         view.setCurrentPlayer(gameState.currentPlayerId());
         view.setUndoEnabled(!gameState.isGameOver());
+        view.setRedoEnabled(engine.currentPly() < engine.lastPly());
     }
 
     void updateGameBoard(GameState gameState) {
@@ -143,15 +297,15 @@ public class Controller implements ViewListener {
         for (Player p: gameState.players()) {
             Position position = gameState.board().playerPosition(p.id());
             if (position != null) {
-                viewPosition.put(p.id(), new Position(flipRow(position.row()), position.col()));
+                viewPosition.put(p.id(), Position.of(flipRow(position.row()), position.col()));
             }
         }
 
         Set<Wall> viewWalls = new HashSet<>();
         for (Wall w: gameState.board().walls()) {
             WallPosition domainPos = w.position();
-            WallPosition wallPosition = new WallPosition(flipWallRow(domainPos.row()), domainPos.col());
-            viewWalls.add(new Wall(wallPosition, w.orientation()));
+            WallPosition wallPosition = WallPosition.of(flipWallRow(domainPos.row()), domainPos.col());
+            viewWalls.add(Wall.of(wallPosition, w.orientation()));
         }
 
         BoardViewModel viewModel = new BoardViewModel(viewPosition, viewWalls);
@@ -183,7 +337,7 @@ public class Controller implements ViewListener {
         Set<Position> highMoves = new HashSet<>();
 
         for (Position pos: domainMoves) {
-            Position move = new Position(flipRow(pos.row()), pos.col());
+            Position move = Position.of(flipRow(pos.row()), pos.col());
             highMoves.add(move);
         }
 
@@ -1,54 +1,308 @@
 package it.units.quoridor.domain;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.Optional;
 
-/** Immutable game board: 9x9 cell grid tracking player positions and placed walls. */
-public record Board(
-        Set<Wall> walls,
-        Map<PlayerId, Position> playerPositions
-) {
+/**
+ * Immutable game board: 9x9 cell grid tracking player positions and placed walls.
+ *
+ * <p>Besides the {@code walls} / {@code playerPositions} views, the board keeps a primitive
+ * representation used by the hot paths (path finding, validation):
+ * <ul>
+ *   <li>one 64-bit mask per {@link WallOrientation} over the 8x8 {@link WallPosition} grid
+ *       (bit {@code row * 8 + col});</li>
+ *   <li>a per-cell mask of blocked {@link Direction}s (bit {@code direction.ordinal()}),
+ *       derived from the wall masks;</li>
+ *   <li>an 81-bit occupancy mask over the cell grid (bit {@code row * 9 + col}), and each
+ *       pawn's cell index by {@link PlayerId}, so {@link #occupantAt} is a short array scan;</li>
+ *   <li>a {@link Zobrist} key of walls and pawns, updated incrementally by
+ *       {@link #addWall}, {@link #removeWall} and {@link #withPlayerAt} and used as the hash code.</li>
+ * </ul>
+ * Edge, wall and occupancy lookups are therefore constant-time array or bit tests that allocate nothing.
+ */
+public final class Board {
+
+    private static final int SIZE = Position.MAX_COORDINATE + 1;
+    private static final int WALL_SIZE = WallPosition.MAX_COORDINATE + 1;
+    private static final int CELL_COUNT = SIZE * SIZE;
+    private static final int NO_CELL = -1;
+
+    private static final PlayerId[] PLAYER_IDS = PlayerId.values();
+    // occupantAt results, by PlayerId ordinal
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Optional<PlayerId>[] OCCUPANTS = new Optional[PLAYER_IDS.length];
+
+    static {
+        for (PlayerId id : PLAYER_IDS) {
+            OCCUPANTS[id.ordinal()] = Optional.of(id);
+        }
+    }
+
+    private final Map<PlayerId, Position> playerPositions;
+
+    // Never mutated after construction, so boards derived from this one may share it.
+    private final byte[] blockedDirections;
+    private final int[] pawnCells;    // by PlayerId ordinal, NO_CELL when off the board
+    private final long horizontalWalls;
+    private final long verticalWalls;
+    private final long occupiedLow;   // cells 0..63
+    private final long occupiedHigh;  // cells 64..80
+    private final long zobristKey;
+
     public Board() {
         this(Set.of(), Map.of());
     }
 
+    public Board(Set<Wall> walls, Map<PlayerId, Position> playerPositions) {
+        long horizontal = 0L;
+        long vertical = 0L;
+        long key = 0L;
+        byte[] blocked = new byte[CELL_COUNT];
+        for (Wall wall : walls) {
+            int slot = slotIndex(wall.position());
+            if (wall.orientation() == WallOrientation.HORIZONTAL) {
+                horizontal |= 1L << slot;
+            } else {
+                vertical |= 1L << slot;
+            }
+            key ^= Zobrist.wall(wall.orientation(), slot);
+            blockEdges(blocked, slot, wall.orientation());
+        }
+        for (Map.Entry<PlayerId, Position> entry : playerPositions.entrySet()) {
+            key ^= Zobrist.pawn(entry.getKey(), entry.getValue().index());
+        }
+
+        int[] cells = new int[PLAYER_IDS.length];
+        Arrays.fill(cells, NO_CELL);
+        for (Map.Entry<PlayerId, Position> entry : playerPositions.entrySet()) {
+            cells[entry.getKey().ordinal()] = entry.getValue().index();
+        }
+
+        this.playerPositions = Map.copyOf(playerPositions);
+        this.blockedDirections = blocked;
+        this.pawnCells = cells;
+        this.horizontalWalls = horizontal;
+        this.verticalWalls = vertical;
+        this.occupiedLow = occupancyMask(cells, 0);
+        this.occupiedHigh = occupancyMask(cells, Long.SIZE);
+        this.zobristKey = key;
+    }
+
+    private Board(Map<PlayerId, Position> playerPositions, byte[] blockedDirections, int[] pawnCells,
+                  long horizontalWalls, long verticalWalls, long zobristKey) {
+        this.playerPositions = playerPositions;
+        this.blockedDirections = blockedDirections;
+        this.pawnCells = pawnCells;
+        this.horizontalWalls = horizontalWalls;
+        this.verticalWalls = verticalWalls;
+        this.occupiedLow = occupancyMask(pawnCells, 0);
+        this.occupiedHigh = occupancyMask(pawnCells, Long.SIZE);
+        this.zobristKey = zobristKey;
+    }
+
+    /** Placed walls, as a read-only view over the wall masks. */
+    public Set<Wall> walls() {
+        return new WallSet(horizontalWalls, verticalWalls);
+    }
+
+    public Map<PlayerId, Position> playerPositions() {
+        return playerPositions;
+    }
+
+    /**
+     * Returns a board with the wall added. The blocked-edge index is derived from this board's
+     * by setting the wall's four blocked edges; nothing is rebuilt from the full wall set.
+     */
     public Board addWall(Wall wall) {
-        Set<Wall> newWalls = new HashSet<>(walls);
-        newWalls.add(wall);
-        return new Board(newWalls, playerPositions);
+        if (hasWall(wall)) return this;  // re-adding would cancel the wall's Zobrist key
+        int slot = slotIndex(wall.position());
+        byte[] blocked = blockedDirections.clone();
+        blockEdges(blocked, slot, wall.orientation());
+        long key = zobristKey ^ Zobrist.wall(wall.orientation(), slot);
+
+        return wall.orientation() == WallOrientation.HORIZONTAL
+                ? new Board(playerPositions, blocked, pawnCells, horizontalWalls | (1L << slot), verticalWalls, key)
+                : new Board(playerPositions, blocked, pawnCells, horizontalWalls, verticalWalls | (1L << slot), key);
+    }
+
+    /**
+     * Returns a board without the wall, or this board if the wall is not placed. The blocked-edge
+     * index is rebuilt from the remaining walls.
+     */
+    public Board removeWall(Wall wall) {
+        if (!hasWall(wall)) return this;
+        int slot = slotIndex(wall.position());
+        long horizontal = horizontalWalls;
+        long vertical = verticalWalls;
+        if (wall.orientation() == WallOrientation.HORIZONTAL) {
+            horizontal &= ~(1L << slot);
+        } else {
+            vertical &= ~(1L << slot);
+        }
+
+        byte[] blocked = new byte[CELL_COUNT];
+        for (long rest = horizontal; rest != 0; rest &= rest - 1) {
+            blockEdges(blocked, Long.numberOfTrailingZeros(rest), WallOrientation.HORIZONTAL);
+        }
+        for (long rest = vertical; rest != 0; rest &= rest - 1) {
+            blockEdges(blocked, Long.numberOfTrailingZeros(rest), WallOrientation.VERTICAL);
+        }
+        long key = zobristKey ^ Zobrist.wall(wall.orientation(), slot);
+        return new Board(playerPositions, blocked, pawnCells, horizontal, vertical, key);
     }
 
+    /**
+     * Returns a board with the pawn moved. Wall masks and the blocked-edge index are shared;
+     * the occupancy index is updated for the moved pawn only.
+     */
     public Board withPlayerAt(PlayerId playerId, Position position) {
         Map<PlayerId, Position> newPlayerPositions = new HashMap<>(playerPositions);
-        newPlayerPositions.put(playerId, position);
+        Position previous = newPlayerPositions.put(playerId, position);
 
-        return new Board(walls, newPlayerPositions);
+        long key = zobristKey ^ Zobrist.pawn(playerId, position.index());
+        if (previous != null) {
+            key ^= Zobrist.pawn(playerId, previous.index());
+        }
+        int[] cells = pawnCells.clone();
+        cells[playerId.ordinal()] = position.index();
+        return new Board(Collections.unmodifiableMap(newPlayerPositions),
+                blockedDirections, cells, horizontalWalls, verticalWalls, key);
     }
 
     public Optional<PlayerId> occupantAt(Position position) {
-        return playerPositions().entrySet().stream()
-                .filter(e -> e.getValue().equals(position))
-                .map(Map.Entry::getKey)
-                .findFirst();
+        PlayerId occupant = playerOnCell(position.index());
+        return occupant == null ? Optional.empty() : OCCUPANTS[occupant.ordinal()];
     }
 
+    /** The player on the cell at {@code cellIndex} ({@code row * 9 + col}), or {@code null}. */
+    public PlayerId playerOnCell(int cellIndex) {
+        if (!isOccupied(cellIndex)) {
+            return null;
+        }
+        for (int i = 0; i < pawnCells.length; i++) {
+            if (pawnCells[i] == cellIndex) return PLAYER_IDS[i];
+        }
+        return null;
+    }
+
+    public boolean isOccupied(Position position) {
+        return isOccupied(position.index());
+    }
+
+    /** True if a pawn stands on the cell at {@code cellIndex} ({@code row * 9 + col}). */
+    public boolean isOccupied(int cellIndex) {
+        return cellIndex < Long.SIZE
+                ? (occupiedLow & (1L << cellIndex)) != 0
+                : (occupiedHigh & (1L << (cellIndex - Long.SIZE))) != 0;
+    }
 
     public Position playerPosition(PlayerId playerId) {
         return playerPositions.get(playerId);
     }
 
+    /** Bitmask of wall anchors with the given orientation, bit {@code row * 8 + col}. */
+    public long wallMask(WallOrientation orientation) {
+        return orientation == WallOrientation.HORIZONTAL ? horizontalWalls : verticalWalls;
+    }
+
+    /** 64-bit {@link Zobrist} key of the walls and pawn positions. */
+    public long zobristKey() {
+        return zobristKey;
+    }
+
+    public boolean hasWall(Wall wall) {
+        return (wallMask(wall.orientation()) & (1L << slotIndex(wall.position()))) != 0;
+    }
+
     public Set<BlockedEdge> allBlockedEdges() {
         Set<BlockedEdge> blockedEdges = new HashSet<>();
-        for (Wall wall : walls) {
-            blockedEdges.addAll(wall.blockedEdges());
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            for (Direction direction : Direction.values()) {
+                if ((blockedDirections[cell] & (1 << direction.ordinal())) != 0) {
+                    blockedEdges.add(new BlockedEdge(Position.ofIndex(cell), direction));
+                }
+            }
         }
         return blockedEdges;
     }
 
     public boolean isEdgeBlocked(Position position, Direction direction) {
-        return allBlockedEdges().contains(new BlockedEdge(position, direction));
+        return (blockedDirections[position.index()] & (1 << direction.ordinal())) != 0;
+    }
+
+    /**
+     * Blocked directions of the cell at {@code cellIndex} ({@code row * 9 + col}),
+     * as a mask with bit {@code direction.ordinal()} set for every blocked direction.
+     */
+    public int blockedDirectionMask(int cellIndex) {
+        return blockedDirections[cellIndex];
+    }
+
+    // A wall anchored at (row, col) blocks two edges on each side of it:
+    //    ┌─────────────┬─────────────┐
+    //    │  row+1,col  │ row+1,col+1 │
+    //    ├─────────────*─────────────┤
+    //    │   row,col   │  row,col+1  │
+    //    └─────────────┴─────────────┘
+    private static void blockEdges(byte[] blocked, int slot, WallOrientation orientation) {
+        int row = slot / WALL_SIZE;
+        int col = slot % WALL_SIZE;
+
+        if (orientation == WallOrientation.HORIZONTAL) {
+            block(blocked, row, col, Direction.NORTH);
+            block(blocked, row, col + 1, Direction.NORTH);
+            block(blocked, row + 1, col, Direction.SOUTH);
+            block(blocked, row + 1, col + 1, Direction.SOUTH);
+        } else {
+            block(blocked, row, col, Direction.EAST);
+            block(blocked, row + 1, col, Direction.EAST);
+            block(blocked, row, col + 1, Direction.WEST);
+            block(blocked, row + 1, col + 1, Direction.WEST);
+        }
+    }
+
+    private static void block(byte[] blocked, int row, int col, Direction direction) {
+        blocked[row * SIZE + col] |= (byte) (1 << direction.ordinal());
+    }
+
+    // Occupancy bits for the 64-cell window starting at firstCell
+    private static long occupancyMask(int[] pawnCells, int firstCell) {
+        long mask = 0L;
+        for (int cell : pawnCells) {
+            int offset = cell - firstCell;
+            if (cell != NO_CELL && offset >= 0 && offset < Long.SIZE) {
+                mask |= 1L << offset;
+            }
+        }
+        return mask;
+    }
+
+    private static int slotIndex(WallPosition position) {
+        return position.row() * WALL_SIZE + position.col();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Board other)) return false;
+        return zobristKey == other.zobristKey
+                && horizontalWalls == other.horizontalWalls
+                && verticalWalls == other.verticalWalls
+                && playerPositions.equals(other.playerPositions);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey);
+    }
+
+    @Override
+    public String toString() {
+        return "Board[walls=" + walls() + ", playerPositions=" + playerPositions + "]";
     }
 }
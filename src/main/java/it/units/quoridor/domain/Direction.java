@@ -27,6 +27,17 @@ public enum Direction {
     EAST(0, 1),    // Moving right increases col
     WEST(0, -1);   // Moving left decreases col
 
+    // BY_DELTA[(rowDelta + 1) * 3 + (colDelta + 1)], filled for the four unit deltas
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Optional<Direction>[] BY_DELTA = new Optional[9];
+
+    static {
+        Arrays.fill(BY_DELTA, Optional.empty());
+        for (Direction direction : values()) {
+            BY_DELTA[(direction.rowDelta + 1) * 3 + (direction.colDelta + 1)] = Optional.of(direction);
+        }
+    }
+
     private final int rowDelta;
     private final int colDelta;
     Direction(int rowDelta, int colDelta) {
@@ -51,9 +62,10 @@ public enum Direction {
     }
 
     public static Optional<Direction> fromUnitDelta(int dr, int dc) {
-        return Arrays.stream(values())
-                .filter(d -> d.rowDelta() == dr && d.colDelta() == dc)
-                .findFirst();
+        if (dr < -1 || dr > 1 || dc < -1 || dc > 1) {
+            return Optional.empty();
+        }
+        return BY_DELTA[(dr + 1) * 3 + (dc + 1)];
     }
 
 
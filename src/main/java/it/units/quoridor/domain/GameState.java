@@ -41,6 +41,25 @@ public record GameState(
         return board.playerPosition(playerId);
     }
 
+    /**
+     * 64-bit {@link Zobrist} key of the position: pawns, walls, walls left in hand and player
+     * to move. The board part is maintained incrementally by {@link Board}, so this is a handful
+     * of XORs and allocates nothing. Equal states have equal keys.
+     */
+    public long zobristKey() {
+        long key = board.zobristKey() ^ Zobrist.sideToMove(currentPlayerIndex);
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            key ^= Zobrist.wallsRemaining(player.id(), player.wallsRemaining());
+        }
+        return key;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(zobristKey());
+    }
+
     public int currentPlayerWallsRemaining() {
         return currentPlayer().wallsRemaining();
     }
@@ -9,6 +9,11 @@ import java.util.Optional;
  * - Origin (0,0) at bottom-left corner
  * - row 0 = bottom, row 8 = top
  * - col 0 = left, col 8 = right
+ *
+ * <p>Cells can also be addressed by index ({@code row * 9 + col}). The 81 positions are
+ * precomputed, as are the neighbour indices of every cell in every direction, so walking the
+ * board by index needs no bounds checks and creates no objects. {@link #of} and
+ * {@link #ofIndex} return the shared instances.
  */
 
 public record Position(int row, int col) {
@@ -16,6 +21,39 @@ public record Position(int row, int col) {
     public static final int MIN_COORDINATE = 0;
     public static final int MAX_COORDINATE = 8;
 
+    /** Number of cells on the board; cell indices range over {@code [0, CELL_COUNT)}. */
+    public static final int CELL_COUNT = (MAX_COORDINATE + 1) * (MAX_COORDINATE + 1);
+
+    /** Neighbour index returned for a step off the board. */
+    public static final int OFF_BOARD = -1;
+
+    private static final int SIZE = MAX_COORDINATE + 1;
+    private static final int DIRECTIONS = Direction.values().length;
+
+    private static final Position[] CELLS = new Position[CELL_COUNT];
+    // NEIGHBOURS[cell * 4 + direction]: adjacent cell index, or OFF_BOARD
+    private static final int[] NEIGHBOURS = new int[CELL_COUNT * DIRECTIONS];
+    // Same layout as NEIGHBOURS, for tryMove
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Optional<Position>[] STEPS = new Optional[CELL_COUNT * DIRECTIONS];
+
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            CELLS[cell] = new Position(cell / SIZE, cell % SIZE);
+        }
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            for (Direction direction : Direction.values()) {
+                int row = cell / SIZE + direction.rowDelta();
+                int col = cell % SIZE + direction.colDelta();
+                int neighbour = row < MIN_COORDINATE || row > MAX_COORDINATE
+                        || col < MIN_COORDINATE || col > MAX_COORDINATE ? OFF_BOARD : row * SIZE + col;
+                NEIGHBOURS[cell * DIRECTIONS + direction.ordinal()] = neighbour;
+                STEPS[cell * DIRECTIONS + direction.ordinal()] =
+                        neighbour == OFF_BOARD ? Optional.empty() : Optional.of(CELLS[neighbour]);
+            }
+        }
+    }
+
     public Position {
         if (row < MIN_COORDINATE || row > MAX_COORDINATE) {
             throw new IllegalArgumentException("row must be between 0 and 8");
@@ -25,21 +63,43 @@ public record Position(int row, int col) {
         }
     }
 
-    public Position move(Direction direction) {
-        return new Position(row + direction.rowDelta(), col + direction.colDelta());
+    /** The shared position at ({@code row}, {@code col}). */
+    public static Position of(int row, int col) {
+        if (row < MIN_COORDINATE || row > MAX_COORDINATE || col < MIN_COORDINATE || col > MAX_COORDINATE) {
+            return new Position(row, col); // rejected by the constructor
+        }
+        return CELLS[row * SIZE + col];
     }
 
+    /** The shared position of the cell at {@code index} ({@code row * 9 + col}). */
+    public static Position ofIndex(int index) {
+        if (index < 0 || index >= CELL_COUNT) {
+            throw new IllegalArgumentException("cell index must be between 0 and 80");
+        }
+        return CELLS[index];
+    }
 
-    public Optional<Position> tryMove(Direction direction) {
-        int newRow = row + direction.rowDelta();
-        int newCol = col + direction.colDelta();
+    /** Index of the cell one step from {@code index} in {@code direction}, or {@link #OFF_BOARD}. */
+    public static int neighbour(int index, Direction direction) {
+        return NEIGHBOURS[index * DIRECTIONS + direction.ordinal()];
+    }
+
+    /** This cell's index, {@code row * 9 + col}. */
+    public int index() {
+        return row * SIZE + col;
+    }
 
-        if (newRow < MIN_COORDINATE || newRow > MAX_COORDINATE
-                || newCol < MIN_COORDINATE || newCol > MAX_COORDINATE) {
-            return Optional.empty();
+    public Position move(Direction direction) {
+        int neighbour = neighbour(index(), direction);
+        if (neighbour == OFF_BOARD) {
+            throw new IllegalArgumentException("Cannot move " + direction + " from " + this);
         }
+        return CELLS[neighbour];
+    }
 
-        return Optional.of(new Position(newRow, newCol));
+
+    public Optional<Position> tryMove(Direction direction) {
+        return STEPS[index() * DIRECTIONS + direction.ordinal()];
     }
 
 }
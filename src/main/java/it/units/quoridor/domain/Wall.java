@@ -1,16 +1,48 @@
 package it.units.quoridor.domain;
 
-import java.util.HashSet;
 import java.util.Set;
 
+/**
+ * A 2-cell wall anchored at an intersection.
+ *
+ * <p>There are only 128 walls: {@link #of} returns shared instances, and the edges each wall
+ * blocks are computed once.
+ */
 public record Wall(WallPosition position, WallOrientation orientation) {
 
-    public Set<BlockedEdge> blockedEdges() {
+    private static final int ORIENTATIONS = WallOrientation.values().length;
+    private static final Wall[] WALLS = new Wall[WallPosition.SLOT_COUNT * ORIENTATIONS];
+    // Same layout as WALLS
+    private static final Set<BlockedEdge>[] BLOCKED_EDGES = newEdgeTable();
 
-        int row = position.row();
-        int col = position.col();
+    static {
+        for (WallOrientation orientation : WallOrientation.values()) {
+            for (int slot = 0; slot < WallPosition.SLOT_COUNT; slot++) {
+                Wall wall = new Wall(WallPosition.ofIndex(slot), orientation);
+                WALLS[tableIndex(orientation, slot)] = wall;
+                BLOCKED_EDGES[tableIndex(orientation, slot)] = computeBlockedEdges(wall);
+            }
+        }
+    }
 
-        Set<BlockedEdge> blockedEdges = new HashSet<>();
+    /** The shared wall at {@code position} with {@code orientation}. */
+    public static Wall of(WallPosition position, WallOrientation orientation) {
+        return WALLS[tableIndex(orientation, position.index())];
+    }
+
+    /** The shared wall anchored at {@code slot} ({@code row * 8 + col}). */
+    public static Wall of(WallOrientation orientation, int slot) {
+        return of(WallPosition.ofIndex(slot), orientation);
+    }
+
+    /** The four cell edges this wall blocks; the returned set is shared and unmodifiable. */
+    public Set<BlockedEdge> blockedEdges() {
+        return BLOCKED_EDGES[tableIndex(orientation, position.index())];
+    }
+
+    private static Set<BlockedEdge> computeBlockedEdges(Wall wall) {
+        int row = wall.position.row();
+        int col = wall.position.col();
 
         //    * : WallPosition intersection
         //    ┌─────────────┬─────────────┐
@@ -18,20 +50,26 @@ public record Wall(WallPosition position, WallOrientation orientation) {
         //    ├─────────────*─────────────┤
         //    │   row,col   │  row,col+1  │
         //    └─────────────┴─────────────┘
-        if (orientation == WallOrientation.HORIZONTAL) {
-            blockedEdges.add(new BlockedEdge(new Position(row, col), Direction.NORTH));
-            blockedEdges.add(new BlockedEdge(new Position(row, col + 1), Direction.NORTH));
-            blockedEdges.add(new BlockedEdge(new Position(row + 1, col), Direction.SOUTH));
-            blockedEdges.add(new BlockedEdge(new Position(row + 1, col + 1), Direction.SOUTH));
+        if (wall.orientation == WallOrientation.HORIZONTAL) {
+            return Set.of(
+                    new BlockedEdge(Position.of(row, col), Direction.NORTH),
+                    new BlockedEdge(Position.of(row, col + 1), Direction.NORTH),
+                    new BlockedEdge(Position.of(row + 1, col), Direction.SOUTH),
+                    new BlockedEdge(Position.of(row + 1, col + 1), Direction.SOUTH));
         }
+        return Set.of(
+                new BlockedEdge(Position.of(row, col), Direction.EAST),
+                new BlockedEdge(Position.of(row + 1, col), Direction.EAST),
+                new BlockedEdge(Position.of(row, col + 1), Direction.WEST),
+                new BlockedEdge(Position.of(row + 1, col + 1), Direction.WEST));
+    }
 
-        if (orientation == WallOrientation.VERTICAL) {
-            blockedEdges.add(new BlockedEdge(new Position(row, col), Direction.EAST));
-            blockedEdges.add(new BlockedEdge(new Position(row + 1, col), Direction.EAST));
-            blockedEdges.add(new BlockedEdge(new Position(row, col + 1), Direction.WEST));
-            blockedEdges.add(new BlockedEdge(new Position(row + 1, col + 1), Direction.WEST));
-        }
-        return blockedEdges;
+    private static int tableIndex(WallOrientation orientation, int slot) {
+        return orientation.ordinal() * WallPosition.SLOT_COUNT + slot;
     }
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Set<BlockedEdge>[] newEdgeTable() {
+        return new Set[WallPosition.SLOT_COUNT * ORIENTATIONS];
+    }
 }
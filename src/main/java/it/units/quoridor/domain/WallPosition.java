@@ -1,10 +1,26 @@
 package it.units.quoridor.domain;
 
-/** Position on the 8x8 wall intersection grid (0-7, 0-7). Each intersection anchors a 2-cell wall. */
+/**
+ * Position on the 8x8 wall intersection grid (0-7, 0-7). Each intersection anchors a 2-cell wall.
+ *
+ * <p>The 64 positions are precomputed: {@link #of} and {@link #ofIndex} return shared instances.
+ */
 public record WallPosition(int row, int col) {
     public static final int MIN_COORDINATE = 0;
     public static final int MAX_COORDINATE = 7;
 
+    /** Number of intersections; slot indices ({@code row * 8 + col}) range over {@code [0, SLOT_COUNT)}. */
+    public static final int SLOT_COUNT = (MAX_COORDINATE + 1) * (MAX_COORDINATE + 1);
+
+    private static final int SIZE = MAX_COORDINATE + 1;
+    private static final WallPosition[] SLOTS = new WallPosition[SLOT_COUNT];
+
+    static {
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            SLOTS[slot] = new WallPosition(slot / SIZE, slot % SIZE);
+        }
+    }
+
     public WallPosition {
         if (row < MIN_COORDINATE || row > MAX_COORDINATE) {
             throw new IllegalArgumentException("row must be between 0 and 7");
@@ -14,5 +30,24 @@ public record WallPosition(int row, int col) {
         }
     }
 
+    /** The shared wall position at ({@code row}, {@code col}). */
+    public static WallPosition of(int row, int col) {
+        if (row < MIN_COORDINATE || row > MAX_COORDINATE || col < MIN_COORDINATE || col > MAX_COORDINATE) {
+            return new WallPosition(row, col); // rejected by the constructor
+        }
+        return SLOTS[row * SIZE + col];
+    }
 
+    /** The shared wall position of {@code slot} ({@code row * 8 + col}). */
+    public static WallPosition ofIndex(int slot) {
+        if (slot < 0 || slot >= SLOT_COUNT) {
+            throw new IllegalArgumentException("slot must be between 0 and 63");
+        }
+        return SLOTS[slot];
+    }
+
+    /** This intersection's slot index, {@code row * 8 + col}. */
+    public int index() {
+        return row * SIZE + col;
+    }
 }
@@ -0,0 +1,99 @@
+package it.units.quoridor.domain;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Immutable set of walls stored as two 64-bit masks over the 8x8 {@link WallPosition} grid,
+ * one per orientation (bit {@code row * 8 + col}). Usable as a regular read-only
+ * {@code Set<Wall>}, while hot loops can work on the masks directly.
+ */
+public final class WallSet extends AbstractSet<Wall> {
+
+    private static final int WALL_SIZE = WallPosition.MAX_COORDINATE + 1;
+
+    public static final WallSet EMPTY = new WallSet(0L, 0L);
+
+    private final long horizontal;
+    private final long vertical;
+
+    public WallSet(long horizontal, long vertical) {
+        this.horizontal = horizontal;
+        this.vertical = vertical;
+    }
+
+    public long horizontalMask() {
+        return horizontal;
+    }
+
+    public long verticalMask() {
+        return vertical;
+    }
+
+    public long mask(WallOrientation orientation) {
+        return orientation == WallOrientation.HORIZONTAL ? horizontal : vertical;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Wall wall)) return false;
+        long mask = wall.orientation() == WallOrientation.HORIZONTAL ? horizontal : vertical;
+        return (mask & (1L << (wall.position().row() * WALL_SIZE + wall.position().col()))) != 0;
+    }
+
+    @Override
+    public int size() {
+        return Long.bitCount(horizontal) + Long.bitCount(vertical);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return horizontal == 0 && vertical == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof WallSet other) {
+            return horizontal == other.horizontal && vertical == other.vertical;
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public Iterator<Wall> iterator() {
+        return new Iterator<>() {
+            private long remainingHorizontal = horizontal;
+            private long remainingVertical = vertical;
+
+            @Override
+            public boolean hasNext() {
+                return remainingHorizontal != 0 || remainingVertical != 0;
+            }
+
+            @Override
+            public Wall next() {
+                if (remainingHorizontal != 0) {
+                    int slot = Long.numberOfTrailingZeros(remainingHorizontal);
+                    remainingHorizontal &= remainingHorizontal - 1;
+                    return wallAt(slot, WallOrientation.HORIZONTAL);
+                }
+                if (remainingVertical != 0) {
+                    int slot = Long.numberOfTrailingZeros(remainingVertical);
+                    remainingVertical &= remainingVertical - 1;
+                    return wallAt(slot, WallOrientation.VERTICAL);
+                }
+                throw new NoSuchElementException();
+            }
+        };
+    }
+
+    private static Wall wallAt(int slot, WallOrientation orientation) {
+        return Wall.of(orientation, slot);
+    }
+}
@@ -0,0 +1,75 @@
+package it.units.quoridor.domain;
+
+/**
+ * Zobrist keys: one fixed pseudo-random 64-bit value per position feature (pawn on a cell,
+ * wall in a slot, walls left in hand, player to move). A position's key is the XOR of the keys
+ * of its features, so applying or undoing a move updates it with a couple of XORs.
+ *
+ * <p>Keys are generated from a fixed seed and are therefore stable across runs, which lets
+ * persisted tables (e.g. opening books) use them.
+ */
+public final class Zobrist {
+
+    private static final int CELL_COUNT = (Position.MAX_COORDINATE + 1) * (Position.MAX_COORDINATE + 1);
+    private static final int SLOT_COUNT = (WallPosition.MAX_COORDINATE + 1) * (WallPosition.MAX_COORDINATE + 1);
+    private static final int PLAYERS = PlayerId.values().length;
+    private static final int WALL_COUNTS = 32;
+
+    private static final long[][] PAWN = new long[PLAYERS][CELL_COUNT];
+    private static final long[][] WALL = new long[WallOrientation.values().length][SLOT_COUNT];
+    private static final long[][] WALLS_REMAINING = new long[PLAYERS][WALL_COUNTS];
+    private static final long[] SIDE_TO_MOVE = new long[PLAYERS];
+
+    private static long seed = 0x51_7C_C1_B7_27_22_0A_95L;
+
+    static {
+        fill(PAWN);
+        fill(WALL);
+        fill(WALLS_REMAINING);
+        for (int i = 0; i < PLAYERS; i++) SIDE_TO_MOVE[i] = next();
+        // No walls in hand hashes to nothing, so a fresh Board and a player without walls agree
+        for (long[] counts : WALLS_REMAINING) counts[0] = 0L;
+    }
+
+    private Zobrist() {}
+
+    /** Key of {@code player}'s pawn standing on cell {@code cellIndex} ({@code row * 9 + col}). */
+    public static long pawn(PlayerId player, int cellIndex) {
+        return PAWN[player.ordinal()][cellIndex];
+    }
+
+    /** Key of a wall anchored at slot {@code slotIndex} ({@code row * 8 + col}). */
+    public static long wall(WallOrientation orientation, int slotIndex) {
+        return WALL[orientation.ordinal()][slotIndex];
+    }
+
+    /** Key of {@code player} holding {@code count} walls. */
+    public static long wallsRemaining(PlayerId player, int count) {
+        return count < WALL_COUNTS
+                ? WALLS_REMAINING[player.ordinal()][count]
+                : mix(WALLS_REMAINING[player.ordinal()][WALL_COUNTS - 1] + count);
+    }
+
+    /** Key of the player at {@code playerIndex} in turn order being to move. */
+    public static long sideToMove(int playerIndex) {
+        return SIDE_TO_MOVE[playerIndex];
+    }
+
+    private static void fill(long[][] table) {
+        for (long[] row : table) {
+            for (int i = 0; i < row.length; i++) row[i] = next();
+        }
+    }
+
+    // SplitMix64
+    private static long next() {
+        seed += 0x9E3779B97F4A7C15L;
+        return mix(seed);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -3,6 +3,7 @@ package it.units.quoridor.engine;
 import it.units.quoridor.domain.PlayerId;
 import it.units.quoridor.domain.Position;
 import it.units.quoridor.domain.Wall;
+import it.units.quoridor.domain.WallSet;
 import it.units.quoridor.domain.GameState;
 import it.units.quoridor.logic.rules.PlayerCount;
 
@@ -11,7 +12,10 @@ import java.util.Set;
 
 /**
  * Orchestrates game flow: delegates validation to the Logic layer,
- * manages state transitions, and maintains move history for undo.
+ * manages state transitions, and maintains move history for undo, redo and variations.
+ *
+ * <p>Plies count moves from the start of the game. The <em>current line</em> is the sequence of
+ * moves leading to the current position, followed by the moves redo would replay.
  */
 public interface GameEngine {
 
@@ -21,8 +25,12 @@ public interface GameEngine {
     MoveResult movePawn(PlayerId player, Position position);
     /** Attempt to place a wall for the given player. */
     MoveResult placeWall(PlayerId player, Wall wall);
+    /** Attempt a move given as a {@link it.units.quoridor.engine.moves.MoveCodec} code. */
+    MoveResult playMove(PlayerId player, int move);
     /** All positions the player can legally move to this turn. */
     Set<Position> legalPawnDestinationsForPlayer(PlayerId player);
+    /** All walls the player can legally place this turn, computed in one batched pass. */
+    WallSet legalWallsForPlayer(PlayerId player);
 
     /** Start a new game with the given player count and player names. */
     void newGame(PlayerCount playerCount, List<String> playerNames);
@@ -30,6 +38,18 @@ public interface GameEngine {
     void reset();
     /** Undo the last move. Returns false if nothing to undo. */
     boolean undo();
+    /** Replay the next move of the current line. Returns false if nothing to redo. */
+    boolean redo();
+    /** Jump to a ply of the current line. Returns false if the ply is not recorded. */
+    boolean goToPly(int ply);
+    /** Ply of the current position. */
+    int currentPly();
+    /** Ply at the end of the current line. */
+    int lastPly();
+    /** {@link it.units.quoridor.engine.moves.MoveCodec} codes of the recorded continuations from here. */
+    int[] branches();
+    /** Replay the recorded continuation starting with {@code move}, making it the current line. */
+    boolean switchBranch(int move);
     boolean isGameOver();
     PlayerId winner();
 }
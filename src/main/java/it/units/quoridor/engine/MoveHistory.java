@@ -0,0 +1,362 @@
+package it.units.quoridor.engine;
+
+import it.units.quoridor.domain.GameState;
+
+import java.util.Arrays;
+
+/**
+ * Move tree behind {@link QuoridorEngine}'s undo, redo, ply jumps and variations, stored as one
+ * packed {@code int} per move instead of a {@link GameState} per move.
+ *
+ * <p>A delta holds what is needed to play a move again or take it back: the {@code MoveCodec}
+ * code, the seat that moved (the turn to restore), the pawn's previous cell and whether a wall
+ * placement changed nothing. Moves are only accepted while a game is in progress, so the status
+ * to restore on undo is always "in progress" and needs no bits.
+ *
+ * <p>Nodes live in parallel primitive arrays. Each node remembers the child redo follows, which
+ * defines the <em>current line</em>: the path from the root through the current node and on
+ * along those children. The line is also kept as an array indexed by ply, so any ply on it is
+ * found in O(1). Every {@code keyframeInterval}-th ply (counted from the start of the game) keeps
+ * the full state, and the root always does, so reaching any ply replays at most
+ * {@code keyframeInterval} deltas; 0 keeps the root only.
+ *
+ * <p>At most {@code capacity} moves are kept. Beyond that the root moves one ply along the
+ * current line, dropping the first move and the variations that branched off before it; when
+ * the current node is the root, its continuations are dropped instead.
+ */
+final class MoveHistory {
+
+    /** Plays a delta forward; used to rebuild the root's state when the oldest move is dropped. */
+    @FunctionalInterface
+    interface Replay {
+        GameState apply(GameState state, int delta);
+    }
+
+    static final int DEFAULT_CAPACITY = 1 << 12;
+    static final int DEFAULT_KEYFRAME_INTERVAL = 64;
+
+    private static final int INITIAL_SIZE = 64;
+    static final int NONE = -1;
+
+    // Delta layout: move code bits 0-7, previous pawn cell bits 8-14, seat bits 15-16, no-op bit 17
+    private static final int MOVE_MASK = 0xFF;
+    private static final int CELL_SHIFT = 8;
+    private static final int CELL_MASK = 0x7F;
+    private static final int SEAT_SHIFT = 15;
+    private static final int SEAT_MASK = 0x3;
+    private static final int NO_OP = 1 << 17;
+
+    private final int capacity;
+    private final int keyframeInterval;
+    private final Replay replay;
+
+    // Node arrays; free slots are chained through nextSibling
+    private int[] deltas = new int[INITIAL_SIZE];
+    private int[] parents = new int[INITIAL_SIZE];
+    private int[] firstChild = new int[INITIAL_SIZE];
+    private int[] nextSibling = new int[INITIAL_SIZE];
+    private int[] redoChild = new int[INITIAL_SIZE];
+    private GameState[] keyframes = new GameState[INITIAL_SIZE];
+    private int slotsUsed;
+    private int freeSlot = NONE;
+    private int nodeCount;
+
+    private int root;
+    private int rootPly;
+    private int current;
+    private int currentPly;
+
+    // Current line: line[lineStart + ply - rootPly] is the node at that ply, up to lineEnd (exclusive)
+    private int[] line = new int[INITIAL_SIZE];
+    private int lineStart;
+    private int lineEnd;
+
+    private int[] stack = new int[INITIAL_SIZE];
+
+    MoveHistory(int capacity, int keyframeInterval, Replay replay) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive");
+        if (keyframeInterval < 0) throw new IllegalArgumentException("keyframeInterval must be >= 0");
+        this.capacity = capacity;
+        this.keyframeInterval = keyframeInterval;
+        this.replay = replay;
+    }
+
+    MoveHistory(Replay replay) {
+        this(DEFAULT_CAPACITY, DEFAULT_KEYFRAME_INTERVAL, replay);
+    }
+
+    /** Delta of a move played by {@code seat}; {@code previousCell} is only read back for pawn moves. */
+    static int delta(int move, int seat, int previousCell, boolean noOp) {
+        return (move & MOVE_MASK)
+                | (previousCell & CELL_MASK) << CELL_SHIFT
+                | seat << SEAT_SHIFT
+                | (noOp ? NO_OP : 0);
+    }
+
+    static int move(int delta) {
+        return delta & MOVE_MASK;
+    }
+
+    static int previousCell(int delta) {
+        return (delta >>> CELL_SHIFT) & CELL_MASK;
+    }
+
+    static int seat(int delta) {
+        return (delta >>> SEAT_SHIFT) & SEAT_MASK;
+    }
+
+    static boolean isNoOp(int delta) {
+        return (delta & NO_OP) != 0;
+    }
+
+    /** Forgets every move and starts a new tree at {@code start}. */
+    void reset(GameState start) {
+        Arrays.fill(keyframes, 0, slotsUsed, null);
+        slotsUsed = 0;
+        freeSlot = NONE;
+        nodeCount = 0;
+
+        root = allocate(0);
+        parents[root] = NONE;
+        keyframes[root] = start;
+        rootPly = 0;
+        current = root;
+        currentPly = 0;
+        lineStart = 0;
+        lineEnd = 0;
+        appendToLine(root);
+    }
+
+    /**
+     * Records a move played from the current node, reaching {@code after}. Playing a move that
+     * is already a continuation follows that variation instead of adding a node.
+     */
+    void push(int delta, GameState after) {
+        int ply = currentPly + 1;
+        int child = child(current, move(delta));
+        if (child == NONE) {
+            makeRoomForMove();
+            child = allocate(delta);
+            parents[child] = current;
+            nextSibling[child] = firstChild[current];
+            firstChild[current] = child;
+            keyframes[child] = keyframeInterval > 0 && ply % keyframeInterval == 0 ? after : null;
+        }
+        redoChild[current] = child;
+        rebuildLine();
+        current = child;
+        currentPly = ply;
+    }
+
+    boolean canUndo() {
+        return current != root;
+    }
+
+    boolean canRedo() {
+        return redoChild[current] != NONE;
+    }
+
+    /** Steps back to the parent and returns the delta of the move taken back. */
+    int back() {
+        if (!canUndo()) throw new IllegalStateException("nothing to undo");
+        int delta = deltas[current];
+        current = parents[current];
+        currentPly--;
+        return delta;
+    }
+
+    /** Steps forward along the current line and returns the delta of the move replayed. */
+    int forward() {
+        if (!canRedo()) throw new IllegalStateException("nothing to redo");
+        current = redoChild[current];
+        currentPly++;
+        return deltas[current];
+    }
+
+    /**
+     * Makes the continuation starting with {@code move} the current line and steps into it.
+     * Returns its delta, or {@link #NONE} if there is no such continuation.
+     */
+    int forward(int move) {
+        int child = child(current, move);
+        if (child == NONE) return NONE;
+        redoChild[current] = child;
+        rebuildLine();
+        current = child;
+        currentPly++;
+        return deltas[current];
+    }
+
+    /** Move codes of the continuations recorded from the current node, newest first. */
+    int[] branches() {
+        int count = 0;
+        for (int child = firstChild[current]; child != NONE; child = nextSibling[child]) count++;
+        int[] moves = new int[count];
+        int i = 0;
+        for (int child = firstChild[current]; child != NONE; child = nextSibling[child]) {
+            moves[i++] = move(deltas[child]);
+        }
+        return moves;
+    }
+
+    /** Delta of the move reaching {@code ply} on the current line. */
+    int deltaAt(int ply) {
+        return deltas[nodeAt(ply)];
+    }
+
+    /** Keyframe of the current node, or {@code null}. */
+    GameState keyframe() {
+        return keyframes[current];
+    }
+
+    /** Latest ply at or before {@code ply} on the current line whose state is kept. */
+    int keyframePly(int ply) {
+        while (keyframes[nodeAt(ply)] == null) ply--;
+        return ply;
+    }
+
+    /** Moves to {@code ply} on the current line, which must hold a keyframe, and returns it. */
+    GameState jumpToKeyframe(int ply) {
+        current = nodeAt(ply);
+        currentPly = ply;
+        return keyframes[current];
+    }
+
+    boolean isOnLine(int ply) {
+        return ply >= rootPly && ply <= lastPly();
+    }
+
+    int currentPly() {
+        return currentPly;
+    }
+
+    /** Oldest ply still recorded. */
+    int firstPly() {
+        return rootPly;
+    }
+
+    /** Ply at the end of the current line. */
+    int lastPly() {
+        return rootPly + (lineEnd - lineStart) - 1;
+    }
+
+    /** Number of moves recorded, over all variations. */
+    int size() {
+        return nodeCount - 1;
+    }
+
+    private int nodeAt(int ply) {
+        return line[lineStart + ply - rootPly];
+    }
+
+    private int child(int node, int move) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (move(deltas[child]) == move) return child;
+        }
+        return NONE;
+    }
+
+    private void makeRoomForMove() {
+        while (size() >= capacity) {
+            if (current != root) {
+                dropRoot();
+            } else {
+                dropSubtrees(root, NONE);
+                firstChild[root] = NONE;
+                redoChild[root] = NONE;
+            }
+        }
+    }
+
+    // The root advances one ply along the current line
+    private void dropRoot() {
+        int newRoot = line[lineStart + 1];
+        if (keyframes[newRoot] == null) {
+            keyframes[newRoot] = replay.apply(keyframes[root], deltas[newRoot]);
+        }
+        dropSubtrees(root, newRoot);
+        release(root);
+
+        root = newRoot;
+        parents[root] = NONE;
+        nextSibling[root] = NONE;
+        rootPly++;
+        lineStart++;
+    }
+
+    // Releases every subtree under node except the one rooted at keep
+    private void dropSubtrees(int node, int keep) {
+        int top = 0;
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            if (child != keep) stack = push(stack, top++, child);
+        }
+        while (top > 0) {
+            int dropped = stack[--top];
+            for (int child = firstChild[dropped]; child != NONE; child = nextSibling[child]) {
+                stack = push(stack, top++, child);
+            }
+            release(dropped);
+        }
+    }
+
+    private static int[] push(int[] stack, int top, int node) {
+        if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+        stack[top] = node;
+        return stack;
+    }
+
+    // Truncates the line after the current node and extends it along the redo children
+    private void rebuildLine() {
+        lineEnd = lineStart + currentPly - rootPly + 1;
+        for (int next = redoChild[current]; next != NONE; next = redoChild[next]) {
+            appendToLine(next);
+        }
+    }
+
+    private void appendToLine(int node) {
+        if (lineEnd == line.length) {
+            if (lineStart > 0) {
+                System.arraycopy(line, lineStart, line, 0, lineEnd - lineStart);
+                lineEnd -= lineStart;
+                lineStart = 0;
+            } else {
+                line = Arrays.copyOf(line, line.length * 2);
+            }
+        }
+        line[lineEnd++] = node;
+    }
+
+    private int allocate(int delta) {
+        int node;
+        if (freeSlot != NONE) {
+            node = freeSlot;
+            freeSlot = nextSibling[node];
+        } else {
+            if (slotsUsed == deltas.length) grow();
+            node = slotsUsed++;
+        }
+        deltas[node] = delta;
+        firstChild[node] = NONE;
+        nextSibling[node] = NONE;
+        redoChild[node] = NONE;
+        nodeCount++;
+        return node;
+    }
+
+    private void release(int node) {
+        keyframes[node] = null;
+        nextSibling[node] = freeSlot;
+        freeSlot = node;
+        nodeCount--;
+    }
+
+    private void grow() {
+        int length = deltas.length * 2;
+        deltas = Arrays.copyOf(deltas, length);
+        parents = Arrays.copyOf(parents, length);
+        firstChild = Arrays.copyOf(firstChild, length);
+        nextSibling = Arrays.copyOf(nextSibling, length);
+        redoChild = Arrays.copyOf(redoChild, length);
+        keyframes = Arrays.copyOf(keyframes, length);
+    }
+}
@@ -0,0 +1,24 @@
+package it.units.quoridor.engine;
+
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.logic.rules.PlayerCount;
+
+/**
+ * Notified by {@link QuoridorEngine} of new games and of every change to the line of moves
+ * leading to the current position: moves played, redone or jumped to, and moves taken back.
+ */
+public interface MoveListener {
+
+    /** A new game started; the moves that follow belong to it. */
+    default void gameStarted(PlayerCount playerCount) {}
+
+    /**
+     * {@code player} played {@code move}, a {@link it.units.quoridor.engine.moves.MoveCodec} code,
+     * as move number {@code ply} (counting from 1). It replaces any move previously reported
+     * for that ply.
+     */
+    void movePlayed(int ply, PlayerId player, int move);
+
+    /** The game went back to {@code ply}: the moves after it are no longer part of it. */
+    default void movesTakenBack(int ply) {}
+}
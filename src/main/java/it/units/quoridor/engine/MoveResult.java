@@ -6,8 +6,11 @@ public record MoveResult(
         boolean isWin,
         String message
 ) {
+    private static final MoveResult SUCCESS = new MoveResult(true, false, "Move executed");
+    private static final MoveResult WIN = new MoveResult(true, true, "Win");
+
     public static MoveResult success() {
-        return new MoveResult(true, false, "Move executed");
+        return SUCCESS;
     }
 
     public static MoveResult failure(String reason) {
@@ -15,6 +18,6 @@ public record MoveResult(
     }
 
     public static MoveResult win() {
-        return new MoveResult(true, true, "Win");
+        return WIN;
     }
 }
\ No newline at end of file
@@ -5,12 +5,19 @@ import it.units.quoridor.logic.rules.*;
 import it.units.quoridor.logic.rules.setup.*;
 import it.units.quoridor.logic.validation.PawnMoveValidator;
 import it.units.quoridor.logic.validation.WallPlacementValidator;
+import it.units.quoridor.engine.moves.MoveCodec;
 import it.units.quoridor.engine.moves.PawnMoveGenerator;
 
 import java.util.*;
 
 
-/** Standard Quoridor engine. Delegates all validation to the Logic layer. */
+/**
+ * Standard Quoridor engine. Delegates all validation to the Logic layer.
+ *
+ * <p>Played moves are kept in a {@link MoveHistory} tree of packed move deltas. Undo reverses a
+ * delta on the current state and redo replays one, unless a keyframe was kept for the ply;
+ * {@link #goToPly} starts from the nearest keyframe or the current ply, whichever is closer.
+ */
 public class QuoridorEngine implements GameEngine {
 
     private final GameRules rules;
@@ -19,7 +26,8 @@ public class QuoridorEngine implements GameEngine {
     private final WinChecker winChecker;
     private final PawnMoveGenerator pawnMoveGenerator;
 
-    private final Deque<GameState> history = new ArrayDeque<>();
+    private MoveHistory history = new MoveHistory(this::advance);
+    private final List<MoveListener> listeners = new ArrayList<>();
     private GameState state;
     private PlayerCount lastPlayerCount = PlayerCount.TWO_PLAYERS;
     private List<String> lastPlayerNames = List.of("Player 1", "Player 2");
@@ -54,7 +62,19 @@ public class QuoridorEngine implements GameEngine {
         }
 
         state = InitialStateFactory.create(rules, playerCount, List.copyOf(specs));
-        history.clear();
+        history.reset(state);
+        for (MoveListener listener : listeners) {
+            listener.gameStarted(playerCount);
+        }
+    }
+
+    /** Registers a listener for new games and accepted moves, e.g. a game record writer. */
+    public void addMoveListener(MoveListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeMoveListener(MoveListener listener) {
+        listeners.remove(listener);
     }
 
     // for tests -> package-private:
@@ -72,7 +92,7 @@ public class QuoridorEngine implements GameEngine {
         pawnMoveGenerator = new PawnMoveGenerator(pawnValidator);
 
         state = initialState;
-        history.clear();
+        history.reset(state);
     }
 
 
@@ -101,17 +121,130 @@ public class QuoridorEngine implements GameEngine {
     }
 
 
-    private void saveSnapshot() {
-        history.push(state);
+    /**
+     * Bounds the history to {@code maxMoves} moves over all variations and keeps a full snapshot
+     * every {@code keyframeInterval} plies (0 for none). Clears the current history.
+     */
+    public void setHistoryLimits(int maxMoves, int keyframeInterval) {
+        history = new MoveHistory(maxMoves, keyframeInterval, this::advance);
+        history.reset(state);
+    }
+
+    private int delta(PlayerId player, int move) {
+        boolean noOp = MoveCodec.isWall(move) && state.board().hasWall(MoveCodec.wallOf(move));
+        int previousCell = state.board().playerPosition(player).index();
+        return MoveHistory.delta(move, state.currentPlayerIndex(), previousCell, noOp);
     }
 
     @Override
     public boolean undo() {
-        if (!history.isEmpty()) {
-            state = history.pop();
-            return true;
+        if (!history.canUndo()) return false;
+        stepBack();
+        notifyTakenBack();
+        return true;
+    }
+
+    @Override
+    public boolean redo() {
+        if (!history.canRedo()) return false;
+        int delta = history.forward();
+        replay(delta);
+        notifyPlayed(history.currentPly(), delta);
+        return true;
+    }
+
+    @Override
+    public boolean switchBranch(int move) {
+        int delta = history.forward(move);
+        if (delta == MoveHistory.NONE) return false;
+        replay(delta);
+        notifyPlayed(history.currentPly(), delta);
+        return true;
+    }
+
+    @Override
+    public int[] branches() {
+        return history.branches();
+    }
+
+    @Override
+    public boolean goToPly(int ply) {
+        if (!history.isOnLine(ply)) return false;
+        int from = history.currentPly();
+        int keyframePly = history.keyframePly(ply);
+        if (Math.abs(ply - from) > ply - keyframePly) {
+            state = history.jumpToKeyframe(keyframePly);
+        }
+        while (history.currentPly() > ply) stepBack();
+        while (history.currentPly() < ply) replay(history.forward());
+
+        if (ply < from) notifyTakenBack();
+        for (int played = from + 1; played <= ply && !listeners.isEmpty(); played++) {
+            notifyPlayed(played, history.deltaAt(played));
         }
-        return false;
+        return true;
+    }
+
+    @Override
+    public int currentPly() {
+        return history.currentPly();
+    }
+
+    @Override
+    public int lastPly() {
+        return history.lastPly();
+    }
+
+    private void notifyPlayed(int ply, int delta) {
+        PlayerId player = state.players().get(MoveHistory.seat(delta)).id();
+        for (MoveListener listener : listeners) {
+            listener.movePlayed(ply, player, MoveHistory.move(delta));
+        }
+    }
+
+    private void notifyTakenBack() {
+        for (MoveListener listener : listeners) {
+            listener.movesTakenBack(history.currentPly());
+        }
+    }
+
+    private void stepBack() {
+        int delta = history.back();
+        GameState keyframe = history.keyframe();
+        state = keyframe != null ? keyframe : revert(state, delta);
+    }
+
+    private void replay(int delta) {
+        GameState keyframe = history.keyframe();
+        state = keyframe != null ? keyframe : advance(state, delta);
+    }
+
+    // Plays a recorded move, already known to be legal, from the position it was recorded in
+    private GameState advance(GameState from, int delta) {
+        PlayerId player = from.players().get(MoveHistory.seat(delta)).id();
+        int move = MoveHistory.move(delta);
+        if (MoveCodec.isWall(move)) {
+            return from.withWallPlaced(player, MoveCodec.wallOf(move)).withNextTurn();
+        }
+
+        GameState moved = from.withPawnMovedTo(player, MoveCodec.destination(move));
+        return winChecker.isWin(moved, player) ? moved.withGameFinished(player) : moved.withNextTurn();
+    }
+
+    // Moves are only accepted while the game is in progress, so that is the status to go back to
+    private static GameState revert(GameState state, int delta) {
+        int seat = MoveHistory.seat(delta);
+        Player mover = state.players().get(seat);
+        int move = MoveHistory.move(delta);
+
+        GameState reverted;
+        if (MoveCodec.isWall(move)) {
+            Board board = MoveHistory.isNoOp(delta) ? state.board() : state.board().removeWall(MoveCodec.wallOf(move));
+            reverted = state.withBoard(board).withUpdatedPlayer(mover.withWallsRemaining(mover.wallsRemaining() + 1));
+        } else {
+            reverted = state.withPawnMovedTo(mover.id(), Position.ofIndex(MoveHistory.previousCell(delta)));
+        }
+        return new GameState(reverted.board(), reverted.players(), seat, GameStatus.IN_PROGRESS, null);
     }
 
     private Optional<MoveResult> validateTurnPreconditions(PlayerId playerId) {
@@ -132,6 +265,12 @@ public class QuoridorEngine implements GameEngine {
         return pawnMoveGenerator.legalDestinations(state, player);
     }
 
+    @Override
+    public WallSet legalWallsForPlayer(PlayerId player) {
+        if (state.isGameOver() || state.player(player).wallsRemaining() == 0) return WallSet.EMPTY;
+        return wallValidator.legalWalls(state, player);
+    }
+
     @Override
     public MoveResult movePawn(PlayerId playerId, Position target) {
         Optional<MoveResult> pre = validateTurnPreconditions(playerId);
@@ -141,16 +280,12 @@ public class QuoridorEngine implements GameEngine {
             return MoveResult.failure("Invalid pawn move");
         }
 
-        saveSnapshot();
-        state = state.withPawnMovedTo(playerId, target);
-
-        if (winChecker.isWin(state, playerId)) {
-            state = state.withGameFinished(playerId);
-            return MoveResult.win();
-        }
+        int delta = delta(playerId, MoveCodec.pawn(target));
+        state = advance(state, delta);
+        history.push(delta, state);
+        notifyPlayed(history.currentPly(), delta);
 
-        state = state.withNextTurn();
-        return MoveResult.success();
+        return state.isGameOver() ? MoveResult.win() : MoveResult.success();
     }
 
 
@@ -170,26 +305,39 @@ public class QuoridorEngine implements GameEngine {
             return MoveResult.failure("Impossible to place wall here");
         }
 
-        saveSnapshot();
-        state = state.withWallPlaced(player, wall).withNextTurn();
+        int delta = delta(player, MoveCodec.wall(wall));
+        state = advance(state, delta);
+        history.push(delta, state);
+        notifyPlayed(history.currentPly(), delta);
 
         return MoveResult.success();
     }
 
 
+    @Override
+    public MoveResult playMove(PlayerId player, int move) {
+        if (!MoveCodec.isValid(move)) {
+            return MoveResult.failure("Invalid move code");
+        }
+        return MoveCodec.isWall(move)
+                ? placeWall(player, MoveCodec.wallOf(move))
+                : movePawn(player, MoveCodec.destination(move));
+    }
+
+
     // USED FOR TESTING METHODS
 
     static QuoridorEngine forTesting(GameRules rules, PawnMoveValidator pv, WallPlacementValidator wv,
                                      WinChecker wc, GameState initialState) {
         QuoridorEngine e = new QuoridorEngine(rules, pv, wv, wc);
         e.state = initialState;
-        e.history.clear();
+        e.history.reset(initialState);
         return e;
     }
 
     void setStateForTesting(GameState state) {
         this.state = state;
-        this.history.clear();
+        this.history.reset(state);
     }
 
 
@@ -0,0 +1,14 @@
+package it.units.quoridor.engine.moves;
+
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.MoveResult;
+
+/** A single turn: either a pawn move or a wall placement by the given player. */
+public sealed interface Move permits PawnMove, WallMove {
+
+    PlayerId playerId();
+
+    /** Plays this move through the engine's public API. */
+    MoveResult applyTo(GameEngine engine);
+}
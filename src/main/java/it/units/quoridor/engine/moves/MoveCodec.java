@@ -0,0 +1,85 @@
+package it.units.quoridor.engine.moves;
+
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.domain.Wall;
+import it.units.quoridor.domain.WallOrientation;
+import it.units.quoridor.domain.WallPosition;
+
+/**
+ * Compact move encoding, independent of the player making the move.
+ * <ul>
+ *   <li>pawn move: the destination cell, {@code row * 9 + col} (0..80);</li>
+ *   <li>wall: {@code 128 + orientation.ordinal() * 64 + row * 8 + col} (128..255).</li>
+ * </ul>
+ * Every move fits in an unsigned byte, so codes can be stored in {@code byte}, {@code short}
+ * or {@code int} arrays. Decoding reads precomputed tables and allocates nothing.
+ */
+public final class MoveCodec {
+
+    /** Code meaning "no move". Never produced by {@link #encode}. */
+    public static final int NONE = -1;
+
+    private static final int SLOT_COUNT = WallPosition.SLOT_COUNT;
+    private static final WallOrientation[] ORIENTATIONS = WallOrientation.values();
+    private static final int WALL_BASE = 128;
+    private static final int LIMIT = WALL_BASE + 2 * SLOT_COUNT;
+
+    private MoveCodec() {}
+
+    public static int pawn(Position destination) {
+        return destination.index();
+    }
+
+    public static int wall(Wall wall) {
+        return wall(wall.orientation(), wall.position().index());
+    }
+
+    /** Code of the wall anchored at {@code slot} ({@code row * 8 + col}). */
+    public static int wall(WallOrientation orientation, int slot) {
+        return WALL_BASE + orientation.ordinal() * SLOT_COUNT + slot;
+    }
+
+    public static int encode(Move move) {
+        if (move instanceof PawnMove pawnMove) {
+            return pawn(pawnMove.to());
+        }
+        return wall(((WallMove) move).wall());
+    }
+
+    /** The move {@code code} stands for, played by {@code player}. */
+    public static Move decode(PlayerId player, int code) {
+        return isWall(code)
+                ? new WallMove(player, wallOf(code))
+                : new PawnMove(player, destination(code));
+    }
+
+    /** True for every code {@link #encode} can produce. */
+    public static boolean isValid(int code) {
+        return (code >= 0 && code < Position.CELL_COUNT) || (code >= WALL_BASE && code < LIMIT);
+    }
+
+    public static boolean isWall(int code) {
+        return code >= WALL_BASE;
+    }
+
+    /** Destination of a pawn-move code. */
+    public static Position destination(int code) {
+        return Position.ofIndex(code);
+    }
+
+    /** Slot ({@code row * 8 + col}) of a wall code. */
+    public static int slot(int code) {
+        return (code - WALL_BASE) % SLOT_COUNT;
+    }
+
+    /** Orientation of a wall code. */
+    public static WallOrientation orientation(int code) {
+        return ORIENTATIONS[(code - WALL_BASE) / SLOT_COUNT];
+    }
+
+    /** Wall of a wall code. */
+    public static Wall wallOf(int code) {
+        return Wall.of(orientation(code), slot(code));
+    }
+}
@@ -2,5 +2,13 @@ package it.units.quoridor.engine.moves;
 
 import it.units.quoridor.domain.PlayerId;
 import it.units.quoridor.domain.Position;
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.MoveResult;
 
-public record PawnMove(PlayerId playerId, Position to) {}
+public record PawnMove(PlayerId playerId, Position to) implements Move {
+
+    @Override
+    public MoveResult applyTo(GameEngine engine) {
+        return engine.movePawn(playerId, to);
+    }
+}
@@ -2,15 +2,44 @@ package it.units.quoridor.engine.moves;
 
 import it.units.quoridor.domain.*;
 import it.units.quoridor.logic.validation.PawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
 import java.util.*;
 
-/** Generates all legal pawn destinations by testing candidate positions against the validator. */
+/**
+ * Generates all legal pawn destinations.
+ *
+ * <p>With the standard {@link QuoridorPawnMoveValidator} the destinations are produced directly
+ * in one pass over the mover's four neighbours, using the board's blocked-edge and occupancy
+ * indices: steps, straight jumps, and diagonal sidesteps where a straight jump is impossible.
+ * Any other validator is honoured by testing every candidate cell against it.
+ */
 public class PawnMoveGenerator {
 
+    /**
+     * Upper bound on the number of pawn destinations a validator can accept: four steps, four
+     * straight jumps and four diagonals. The standard rules never reach it.
+     */
+    public static final int MAX_DESTINATIONS = 12;
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // Sidestep directions around a pawn met in each direction, by ordinal
+    private static final Direction[][] SIDESTEPS = new Direction[DIRECTIONS.length][];
+
+    static {
+        for (Direction direction : DIRECTIONS) {
+            SIDESTEPS[direction.ordinal()] = direction == Direction.NORTH || direction == Direction.SOUTH
+                    ? new Direction[] {Direction.EAST, Direction.WEST}
+                    : new Direction[] {Direction.NORTH, Direction.SOUTH};
+        }
+    }
+
     private final PawnMoveValidator pawnValidator;
+    private final boolean standardRules;
 
     public PawnMoveGenerator(PawnMoveValidator pawnValidator) {
         this.pawnValidator = pawnValidator;
+        // A subclass may change the rules, so only the exact class takes the direct path
+        this.standardRules = pawnValidator.getClass() == QuoridorPawnMoveValidator.class;
     }
 
     public boolean isLegalDestination(GameState state, PlayerId playerId, Position target) {
@@ -18,16 +47,79 @@ public class PawnMoveGenerator {
     }
 
     public Set<Position> legalDestinations(GameState state, PlayerId playerId) {
+        int[] cells = new int[MAX_DESTINATIONS];
+        int count = legalDestinations(state, playerId, cells);
+
         Set<Position> destinations = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            destinations.add(Position.ofIndex(cells[i]));
+        }
+        return destinations;
+    }
+
+    /**
+     * Writes the cell indices ({@code row * 9 + col}) of the legal destinations into
+     * {@code out}, which needs room for {@link #MAX_DESTINATIONS}; returns how many were written.
+     */
+    public int legalDestinations(GameState state, PlayerId playerId, int[] out) {
         Position from = state.playerPosition(playerId);
+        if (standardRules) {
+            return destinations(state.board(), from.index(), out);
+        }
 
+        int count = 0;
         for (Position candidate : candidatePositions(from)) {
             if (pawnValidator.canMovePawn(state, playerId, candidate)) {
-                destinations.add(candidate);
+                out[count++] = candidate.index();
+            }
+        }
+        return count;
+    }
+
+    // Standard rules, mirroring QuoridorPawnMoveValidator: step onto a free neighbour; jump
+    // straight over an occupied one; if that jump is walled off, off the board or lands on a
+    // pawn, sidestep diagonally around it instead.
+    private static int destinations(Board board, int from, int[] out) {
+        int count = 0;
+        int blockedFrom = board.blockedDirectionMask(from);
+
+        for (Direction direction : DIRECTIONS) {
+            if ((blockedFrom & (1 << direction.ordinal())) != 0) continue;
+            int adjacent = Position.neighbour(from, direction);
+            if (adjacent == Position.OFF_BOARD) continue;
+
+            if (!board.isOccupied(adjacent)) {
+                out[count++] = adjacent;
+                continue;
+            }
+
+            int blockedAdjacent = board.blockedDirectionMask(adjacent);
+            int behind = Position.neighbour(adjacent, direction);
+            if (behind != Position.OFF_BOARD
+                    && (blockedAdjacent & (1 << direction.ordinal())) == 0
+                    && !board.isOccupied(behind)) {
+                out[count++] = behind;
+                continue;
+            }
+
+            for (Direction side : SIDESTEPS[direction.ordinal()]) {
+                if ((blockedAdjacent & (1 << side.ordinal())) != 0) continue;
+                int diagonal = Position.neighbour(adjacent, side);
+                if (diagonal != Position.OFF_BOARD && !board.isOccupied(diagonal)
+                        && !contains(out, count, diagonal)) {
+                    out[count++] = diagonal;
+                }
             }
         }
+        return count;
+    }
 
-        return destinations;
+    // Two pawns around the mover can offer the same diagonal
+    private static boolean contains(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell) return true;
+        }
+        return false;
     }
 
     // Enumerate all positions a pawn could theoretically reach in one move:
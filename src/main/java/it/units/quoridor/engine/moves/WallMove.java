@@ -0,0 +1,14 @@
+package it.units.quoridor.engine.moves;
+
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Wall;
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.MoveResult;
+
+public record WallMove(PlayerId playerId, Wall wall) implements Move {
+
+    @Override
+    public MoveResult applyTo(GameEngine engine) {
+        return engine.placeWall(playerId, wall);
+    }
+}
@@ -0,0 +1,527 @@
+package it.units.quoridor.engine.search;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.logic.rules.GameRules;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Mutable game position for search and simulation, kept in primitive fields and updated in
+ * place: {@link #make} plays a {@link MoveCodec} move and {@link #unmake} takes it back, so
+ * a search can walk the game tree without allocating a state per ply.
+ *
+ * <p>Follows the same rules as {@code QuoridorEngine} with the standard validators (pawn
+ * steps and jumps, wall overlap/crossing, every player keeps a path to their goal) and keeps
+ * the same {@link GameState#zobristKey() Zobrist key}. Converts both ways with
+ * {@link GameState}. Not thread-safe: give each search thread its own copy.
+ */
+public final class SearchBoard {
+
+    /** Upper bound on the number of legal moves in any position. */
+    public static final int MAX_MOVES = 12 + 2 * 64;
+
+    private static final int SIZE = Position.MAX_COORDINATE + 1;
+    private static final int CELL_COUNT = SIZE * SIZE;
+    private static final int WALL_SIZE = WallPosition.MAX_COORDINATE + 1;
+    private static final long FIRST_COLUMN = 0x0101010101010101L;
+    private static final long LAST_COLUMN = FIRST_COLUMN << (WALL_SIZE - 1);
+
+    private static final int NORTH = Direction.NORTH.ordinal();
+    private static final int SOUTH = Direction.SOUTH.ordinal();
+    private static final int EAST = Direction.EAST.ordinal();
+    private static final int WEST = Direction.WEST.ordinal();
+    private static final int DIRECTIONS = 4;
+
+    // NEIGHBOUR[cell * 4 + direction]: Position's table, flattened by direction ordinal
+    private static final int[] NEIGHBOUR = new int[CELL_COUNT * DIRECTIONS];
+
+    static {
+        for (int cell = 0; cell < CELL_COUNT; cell++) {
+            for (Direction direction : Direction.values()) {
+                NEIGHBOUR[cell * DIRECTIONS + direction.ordinal()] = Position.neighbour(cell, direction);
+            }
+        }
+    }
+
+    private final List<Player> players;
+    private final PlayerId[] ids;
+    private final long[] goalLow;
+    private final long[] goalHigh;
+
+    private final int[] pawn;
+    private final int[] wallsLeft;
+    private final byte[] blocked = new byte[CELL_COUNT];
+    private long horizontal;
+    private long vertical;
+    private int toMove;
+    private int winner = -1;
+    private long key;
+
+    private int[] pawnUndo = new int[64];
+    private int pawnUndoSize;
+
+    // BFS scratch
+    private final int[] queue = new int[CELL_COUNT];
+    private final int[] parent = new int[CELL_COUNT];     // searchGoal's path links
+    private final int[] distance = new int[CELL_COUNT];   // distanceToGoal's step counts
+
+    private SearchBoard(List<Player> players, GameRules rules) {
+        int count = players.size();
+        this.players = List.copyOf(players);
+        this.ids = new PlayerId[count];
+        this.goalLow = new long[count];
+        this.goalHigh = new long[count];
+        this.pawn = new int[count];
+        this.wallsLeft = new int[count];
+        for (int seat = 0; seat < count; seat++) {
+            ids[seat] = players.get(seat).id();
+            for (Position goal : rules.getGoalPositions(ids[seat])) {
+                int cell = goal.index();
+                if (cell < Long.SIZE) goalLow[seat] |= 1L << cell;
+                else goalHigh[seat] |= 1L << (cell - Long.SIZE);
+            }
+        }
+    }
+
+    private SearchBoard(SearchBoard other) {
+        this.players = other.players;
+        this.ids = other.ids;
+        this.goalLow = other.goalLow;
+        this.goalHigh = other.goalHigh;
+        this.pawn = other.pawn.clone();
+        this.wallsLeft = other.wallsLeft.clone();
+        System.arraycopy(other.blocked, 0, blocked, 0, CELL_COUNT);
+        this.horizontal = other.horizontal;
+        this.vertical = other.vertical;
+        this.toMove = other.toMove;
+        this.winner = other.winner;
+        this.key = other.key;
+    }
+
+    /** A search board holding the given position; goals come from {@code rules}. */
+    public static SearchBoard from(GameState state, GameRules rules) {
+        SearchBoard board = new SearchBoard(state.players(), rules);
+        Board source = state.board();
+        for (Wall wall : source.walls()) {
+            board.setWall(wall.orientation(), slot(wall.position()));
+        }
+        for (int seat = 0; seat < board.ids.length; seat++) {
+            board.pawn[seat] = source.playerPosition(board.ids[seat]).index();
+            board.wallsLeft[seat] = state.players().get(seat).wallsRemaining();
+        }
+        board.toMove = state.currentPlayerIndex();
+        if (state.isGameOver()) {
+            board.winner = board.seatOf(state.winner());
+        }
+        board.key = state.zobristKey();
+        return board;
+    }
+
+    /** An independent copy of this position (undo history is not copied). */
+    public SearchBoard copy() {
+        return new SearchBoard(this);
+    }
+
+    /**
+     * Overwrites this position with {@code other}'s without allocating, e.g. to restart from a
+     * start position. Both boards must have the same players; undo history is cleared.
+     */
+    public void copyFrom(SearchBoard other) {
+        if (!Arrays.equals(ids, other.ids)) throw new IllegalArgumentException("Boards have different players");
+        System.arraycopy(other.pawn, 0, pawn, 0, pawn.length);
+        System.arraycopy(other.wallsLeft, 0, wallsLeft, 0, wallsLeft.length);
+        System.arraycopy(other.blocked, 0, blocked, 0, CELL_COUNT);
+        horizontal = other.horizontal;
+        vertical = other.vertical;
+        toMove = other.toMove;
+        winner = other.winner;
+        key = other.key;
+        pawnUndoSize = 0;
+    }
+
+    /** The position as an immutable game state. */
+    public GameState toGameState() {
+        Map<PlayerId, Position> positions = new HashMap<>();
+        List<Player> updated = new ArrayList<>(ids.length);
+        for (int seat = 0; seat < ids.length; seat++) {
+            positions.put(ids[seat], MoveCodec.destination(pawn[seat]));
+            updated.add(players.get(seat).withWallsRemaining(wallsLeft[seat]));
+        }
+        Board board = new Board(new WallSet(horizontal, vertical), positions);
+        return winner < 0
+                ? new GameState(board, updated, toMove)
+                : new GameState(board, updated, toMove, GameStatus.FINISHED, ids[winner]);
+    }
+
+    public long zobristKey() {
+        return key;
+    }
+
+    public int playerCount() {
+        return ids.length;
+    }
+
+    public PlayerId playerAt(int seat) {
+        return ids[seat];
+    }
+
+    /** Turn-order index of the player to move (or of the winner once the game is over). */
+    public int currentSeat() {
+        return toMove;
+    }
+
+    public PlayerId currentPlayer() {
+        return ids[toMove];
+    }
+
+    public boolean isGameOver() {
+        return winner >= 0;
+    }
+
+    /** The winner, or {@code null} while the game is in progress. */
+    public PlayerId winner() {
+        return winner < 0 ? null : ids[winner];
+    }
+
+    /** Cell ({@code row * 9 + col}) of the pawn of the player at {@code seat}. */
+    public int pawnCell(int seat) {
+        return pawn[seat];
+    }
+
+    public int wallsRemaining(int seat) {
+        return wallsLeft[seat];
+    }
+
+    // ── Moves ────────────────────────────────────────────────
+
+    /**
+     * Plays a legal move of the player to move. The move is not validated: only pass codes
+     * produced by {@link #legalMoves}, {@link #pawnMoves} or checked with {@link #isLegalWall}.
+     */
+    public void make(int move) {
+        int mover = toMove;
+        if (MoveCodec.isWall(move)) {
+            WallOrientation orientation = MoveCodec.orientation(move);
+            int slot = MoveCodec.slot(move);
+            setWall(orientation, slot);
+            key ^= Zobrist.wall(orientation, slot);
+            key ^= Zobrist.wallsRemaining(ids[mover], wallsLeft[mover]);
+            wallsLeft[mover]--;
+            key ^= Zobrist.wallsRemaining(ids[mover], wallsLeft[mover]);
+        } else {
+            if (pawnUndoSize == pawnUndo.length) {
+                pawnUndo = Arrays.copyOf(pawnUndo, pawnUndoSize * 2);
+            }
+            pawnUndo[pawnUndoSize++] = pawn[mover];
+            movePawn(mover, move);
+            if (isGoal(mover, move)) {
+                winner = mover;   // like the engine, the turn does not pass on a win
+                return;
+            }
+        }
+        key ^= Zobrist.sideToMove(toMove);
+        toMove = (toMove + 1) % ids.length;
+        key ^= Zobrist.sideToMove(toMove);
+    }
+
+    /** Takes back {@code move}, which must be the last move made and not yet unmade. */
+    public void unmake(int move) {
+        int mover;
+        if (winner >= 0) {
+            mover = winner;
+            winner = -1;
+        } else {
+            mover = (toMove + ids.length - 1) % ids.length;
+            key ^= Zobrist.sideToMove(toMove);
+            toMove = mover;
+            key ^= Zobrist.sideToMove(toMove);
+        }
+
+        if (MoveCodec.isWall(move)) {
+            WallOrientation orientation = MoveCodec.orientation(move);
+            int slot = MoveCodec.slot(move);
+            clearWall(orientation, slot);
+            key ^= Zobrist.wall(orientation, slot);
+            key ^= Zobrist.wallsRemaining(ids[mover], wallsLeft[mover]);
+            wallsLeft[mover]++;
+            key ^= Zobrist.wallsRemaining(ids[mover], wallsLeft[mover]);
+        } else {
+            movePawn(mover, pawnUndo[--pawnUndoSize]);
+        }
+    }
+
+    /** Writes all legal moves of the player to move into {@code out}; returns how many. */
+    public int legalMoves(int[] out) {
+        int count = pawnMoves(out, 0);
+        return wallMoves(out, count);
+    }
+
+    /** Writes the legal pawn moves into {@code out} from {@code offset}; returns the new end. */
+    public int pawnMoves(int[] out, int offset) {
+        if (winner >= 0) return offset;
+        int from = pawn[toMove];
+        int end = offset;
+
+        for (int direction = 0; direction < DIRECTIONS; direction++) {
+            int adjacent = step(from, direction);
+            if (adjacent < 0) continue;
+            if (!isOccupied(adjacent)) {
+                out[end++] = adjacent;
+                continue;
+            }
+
+            int behind = step(adjacent, direction);
+            if (behind >= 0 && !isOccupied(behind)) {
+                out[end++] = behind;
+                continue;
+            }
+
+            // Straight jump impossible: sidestep diagonally around the adjacent pawn
+            int side = direction == NORTH || direction == SOUTH ? EAST : NORTH;
+            for (int turn = side; turn <= side + 1; turn++) {
+                int diagonal = step(adjacent, turn);
+                if (diagonal >= 0 && !isOccupied(diagonal) && !contains(out, offset, end, diagonal)) {
+                    out[end++] = diagonal;
+                }
+            }
+        }
+        return end;
+    }
+
+    /** Writes the legal wall placements into {@code out} from {@code offset}; returns the new end. */
+    public int wallMoves(int[] out, int offset) {
+        if (winner >= 0 || wallsLeft[toMove] == 0) return offset;
+
+        long horizontalFree = ~(horizontal
+                | ((horizontal << 1) & ~FIRST_COLUMN)
+                | ((horizontal >>> 1) & ~LAST_COLUMN)
+                | vertical);
+        long verticalFree = ~(vertical | (vertical << WALL_SIZE) | (vertical >>> WALL_SIZE) | horizontal);
+
+        // Walls missing every player's current shortest path cannot disconnect anyone
+        long[] cutting = wallsCuttingShortestPaths();
+
+        int end = offset;
+        end = addWalls(out, end, WallOrientation.HORIZONTAL, horizontalFree, cutting[1]);
+        end = addWalls(out, end, WallOrientation.VERTICAL, verticalFree, cutting[0]);
+        return end;
+    }
+
+    /** Whether the player to move may place the wall with code {@code move}. */
+    public boolean isLegalWall(int move) {
+        if (winner >= 0 || wallsLeft[toMove] == 0 || !MoveCodec.isValid(move) || !MoveCodec.isWall(move)) {
+            return false;
+        }
+        WallOrientation orientation = MoveCodec.orientation(move);
+        int slot = MoveCodec.slot(move);
+        long bit = 1L << slot;
+        int col = slot % WALL_SIZE;
+
+        if (orientation == WallOrientation.HORIZONTAL) {
+            if (((horizontal | vertical) & bit) != 0) return false;
+            if (col > 0 && (horizontal & (bit >>> 1)) != 0) return false;
+            if (col < WALL_SIZE - 1 && (horizontal & (bit << 1)) != 0) return false;
+        } else {
+            if (((horizontal | vertical) & bit) != 0) return false;
+            if ((vertical & ((bit >>> WALL_SIZE) | (bit << WALL_SIZE))) != 0) return false;
+        }
+        return keepsAllPaths(orientation, slot);
+    }
+
+    /** Shortest number of steps from the player's pawn to their goal, ignoring pawns; -1 if cut off. */
+    public int distanceToGoal(int seat) {
+        int head = 0;
+        int tail = 0;
+        long visitedLow = 0L;
+        long visitedHigh = 0L;
+        int start = pawn[seat];
+        queue[tail++] = start;
+        distance[start] = 0;
+        if (start < Long.SIZE) visitedLow |= 1L << start; else visitedHigh |= 1L << (start - Long.SIZE);
+
+        while (head < tail) {
+            int cell = queue[head++];
+            if (isGoal(seat, cell)) return distance[cell];
+            for (int direction = 0; direction < DIRECTIONS; direction++) {
+                int next = step(cell, direction);
+                if (next < 0) continue;
+                if (next < Long.SIZE) {
+                    if ((visitedLow & (1L << next)) != 0) continue;
+                    visitedLow |= 1L << next;
+                } else {
+                    if ((visitedHigh & (1L << (next - Long.SIZE))) != 0) continue;
+                    visitedHigh |= 1L << (next - Long.SIZE);
+                }
+                distance[next] = distance[cell] + 1;
+                queue[tail++] = next;
+            }
+        }
+        return -1;
+    }
+
+    // ── Internals ────────────────────────────────────────────
+
+    private int addWalls(int[] out, int end, WallOrientation orientation, long free, long onPaths) {
+        for (long rest = free; rest != 0; rest &= rest - 1) {
+            int slot = Long.numberOfTrailingZeros(rest);
+            if ((onPaths & (1L << slot)) == 0 || keepsAllPaths(orientation, slot)) {
+                out[end++] = MoveCodec.wall(orientation, slot);
+            }
+        }
+        return end;
+    }
+
+    private boolean keepsAllPaths(WallOrientation orientation, int slot) {
+        setWall(orientation, slot);
+        try {
+            for (int seat = 0; seat < ids.length; seat++) {
+                if (searchGoal(seat) < 0) return false;
+            }
+            return true;
+        } finally {
+            clearWall(orientation, slot);
+        }
+    }
+
+    // Per orientation (indexed by ordinal), the walls blocking an edge of some player's BFS path
+    private long[] wallsCuttingShortestPaths() {
+        long[] cutting = new long[2];
+        for (int seat = 0; seat < ids.length; seat++) {
+            int goal = searchGoal(seat);
+            if (goal < 0) {
+                cutting[0] = cutting[1] = -1L;   // no known path: check every candidate
+                return cutting;
+            }
+            for (int cell = goal; cell != pawn[seat]; cell = parent[cell]) {
+                markCuttingWalls(cutting, parent[cell], cell);
+            }
+        }
+        return cutting;
+    }
+
+    // Walls blocking the edge between adjacent cells a and b
+    private static void markCuttingWalls(long[] cutting, int a, int b) {
+        int low = Math.min(a, b);
+        int row = low / SIZE;
+        int col = low % SIZE;
+        if (Math.abs(a - b) == SIZE) {
+            // vertical step between rows row and row + 1: horizontal walls at (row, col - 1), (row, col)
+            markSlot(cutting, WallOrientation.HORIZONTAL, row, col - 1);
+            markSlot(cutting, WallOrientation.HORIZONTAL, row, col);
+        } else {
+            // horizontal step between cols col and col + 1: vertical walls at (row - 1, col), (row, col)
+            markSlot(cutting, WallOrientation.VERTICAL, row - 1, col);
+            markSlot(cutting, WallOrientation.VERTICAL, row, col);
+        }
+    }
+
+    private static void markSlot(long[] cutting, WallOrientation orientation, int row, int col) {
+        if (row >= 0 && row < WALL_SIZE && col >= 0 && col < WALL_SIZE) {
+            cutting[orientation.ordinal()] |= 1L << (row * WALL_SIZE + col);
+        }
+    }
+
+    // BFS from the player's pawn; returns the goal cell reached (with parent links set) or -1
+    private int searchGoal(int seat) {
+        int head = 0;
+        int tail = 0;
+        long visitedLow = 0L;
+        long visitedHigh = 0L;
+        int start = pawn[seat];
+        queue[tail++] = start;
+        if (start < Long.SIZE) visitedLow |= 1L << start; else visitedHigh |= 1L << (start - Long.SIZE);
+
+        while (head < tail) {
+            int cell = queue[head++];
+            if (isGoal(seat, cell)) return cell;
+            for (int direction = 0; direction < DIRECTIONS; direction++) {
+                int next = step(cell, direction);
+                if (next < 0) continue;
+                if (next < Long.SIZE) {
+                    if ((visitedLow & (1L << next)) != 0) continue;
+                    visitedLow |= 1L << next;
+                } else {
+                    if ((visitedHigh & (1L << (next - Long.SIZE))) != 0) continue;
+                    visitedHigh |= 1L << (next - Long.SIZE);
+                }
+                parent[next] = cell;
+                queue[tail++] = next;
+            }
+        }
+        return -1;
+    }
+
+    // Adjacent cell in the direction if on the board and not behind a wall, else -1
+    private int step(int cell, int direction) {
+        return (blocked[cell] & (1 << direction)) != 0 ? -1 : NEIGHBOUR[cell * DIRECTIONS + direction];
+    }
+
+    private boolean isOccupied(int cell) {
+        for (int position : pawn) {
+            if (position == cell) return true;
+        }
+        return false;
+    }
+
+    private boolean isGoal(int seat, int cell) {
+        return cell < Long.SIZE
+                ? (goalLow[seat] & (1L << cell)) != 0
+                : (goalHigh[seat] & (1L << (cell - Long.SIZE))) != 0;
+    }
+
+    private void movePawn(int seat, int cell) {
+        key ^= Zobrist.pawn(ids[seat], pawn[seat]) ^ Zobrist.pawn(ids[seat], cell);
+        pawn[seat] = cell;
+    }
+
+    private void setWall(WallOrientation orientation, int slot) {
+        if (orientation == WallOrientation.HORIZONTAL) horizontal |= 1L << slot;
+        else vertical |= 1L << slot;
+        toggleEdges(orientation, slot);
+    }
+
+    private void clearWall(WallOrientation orientation, int slot) {
+        if (orientation == WallOrientation.HORIZONTAL) horizontal &= ~(1L << slot);
+        else vertical &= ~(1L << slot);
+        toggleEdges(orientation, slot);
+    }
+
+    // Legal walls never share an edge, so placing and removing one just flips its four edges
+    private void toggleEdges(WallOrientation orientation, int slot) {
+        int cell = (slot / WALL_SIZE) * SIZE + slot % WALL_SIZE;
+        if (orientation == WallOrientation.HORIZONTAL) {
+            blocked[cell] ^= 1 << NORTH;
+            blocked[cell + 1] ^= 1 << NORTH;
+            blocked[cell + SIZE] ^= 1 << SOUTH;
+            blocked[cell + SIZE + 1] ^= 1 << SOUTH;
+        } else {
+            blocked[cell] ^= 1 << EAST;
+            blocked[cell + SIZE] ^= 1 << EAST;
+            blocked[cell + 1] ^= 1 << WEST;
+            blocked[cell + SIZE + 1] ^= 1 << WEST;
+        }
+    }
+
+    private int seatOf(PlayerId id) {
+        for (int seat = 0; seat < ids.length; seat++) {
+            if (ids[seat] == id) return seat;
+        }
+        throw new IllegalArgumentException("Unknown player " + id);
+    }
+
+    private static boolean contains(int[] moves, int from, int to, int move) {
+        for (int i = from; i < to; i++) {
+            if (moves[i] == move) return true;
+        }
+        return false;
+    }
+
+    private static int slot(WallPosition position) {
+        return position.row() * WALL_SIZE + position.col();
+    }
+}
@@ -0,0 +1,121 @@
+package it.units.quoridor.logic.pathFinder;
+
+import it.units.quoridor.domain.Board;
+import it.units.quoridor.domain.Direction;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.domain.WallOrientation;
+import it.units.quoridor.logic.rules.GameRules;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Distance oracle backed by one multi-source BFS per player, started from every goal cell
+ * at once and expanded backwards over the board (moves are symmetric, so this yields the
+ * distance from each cell to the nearest goal cell).
+ *
+ * <p>Distance fields only depend on the walls, so they are cached by wall layout in a small
+ * direct-mapped table: repeated queries for the same walls, whatever the pawn positions,
+ * cost a table lookup. Safe to share between threads.
+ */
+public class BfsDistanceOracle implements DistanceOracle {
+
+    private static final int CACHE_SIZE = 64;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final int[][] goalCells = new int[PlayerId.values().length][];
+    private final AtomicReferenceArray<Entry> cache = new AtomicReferenceArray<>(CACHE_SIZE);
+
+    public BfsDistanceOracle(GameRules rules) {
+        for (PlayerId player : PlayerId.values()) {
+            goalCells[player.ordinal()] = rules.getGoalPositions(player).stream()
+                    .mapToInt(Position::index)
+                    .toArray();
+        }
+    }
+
+    @Override
+    public int distanceToGoal(Board board, PlayerId player) {
+        return distanceToGoal(board, player, board.playerPosition(player));
+    }
+
+    @Override
+    public int distanceToGoal(Board board, PlayerId player, Position from) {
+        return field(board, player)[from.index()];
+    }
+
+    @Override
+    public int[] distanceMap(Board board, PlayerId player) {
+        return field(board, player).clone();
+    }
+
+    // The cached (shared, never mutated) distance field for the board's walls
+    private int[] field(Board board, PlayerId player) {
+        long horizontal = board.wallMask(WallOrientation.HORIZONTAL);
+        long vertical = board.wallMask(WallOrientation.VERTICAL);
+        int slot = (int) (mix(horizontal, vertical) & (CACHE_SIZE - 1));
+
+        Entry entry = cache.get(slot);
+        if (entry == null || entry.horizontal != horizontal || entry.vertical != vertical) {
+            entry = new Entry(horizontal, vertical);
+            cache.set(slot, entry);
+        }
+
+        int[] field = entry.fields.get(player.ordinal());
+        if (field == null) {
+            field = computeField(board, goalCells[player.ordinal()]);
+            entry.fields.set(player.ordinal(), field);
+        }
+        return field;
+    }
+
+    private static int[] computeField(Board board, int[] goals) {
+        int[] distance = new int[Position.CELL_COUNT];
+        Arrays.fill(distance, UNREACHABLE);
+
+        int[] queue = new int[Position.CELL_COUNT];
+        int head = 0;
+        int tail = 0;
+        for (int goal : goals) {
+            distance[goal] = 0;
+            queue[tail++] = goal;
+        }
+
+        while (head < tail) {
+            int current = queue[head++];
+            int next = distance[current] + 1;
+            int blocked = board.blockedDirectionMask(current);
+            for (Direction direction : DIRECTIONS) {
+                int neighbour = Position.neighbour(current, direction);
+                if ((blocked & (1 << direction.ordinal())) == 0 && neighbour != Position.OFF_BOARD) {
+                    tail = relax(distance, queue, tail, neighbour, next);
+                }
+            }
+        }
+        return distance;
+    }
+
+    private static int relax(int[] distance, int[] queue, int tail, int cell, int value) {
+        if (distance[cell] != UNREACHABLE) return tail;
+        distance[cell] = value;
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    private static long mix(long horizontal, long vertical) {
+        long h = horizontal * 0x9E3779B97F4A7C15L ^ Long.rotateLeft(vertical, 29) * 0xC2B2AE3D27D4EB4FL;
+        return h ^ (h >>> 31);
+    }
+
+    private static final class Entry {
+        final long horizontal;
+        final long vertical;
+        final AtomicReferenceArray<int[]> fields = new AtomicReferenceArray<>(PlayerId.values().length);
+
+        Entry(long horizontal, long vertical) {
+            this.horizontal = horizontal;
+            this.vertical = vertical;
+        }
+    }
+}
@@ -4,39 +4,50 @@ import it.units.quoridor.domain.Board;
 import it.units.quoridor.domain.Direction;
 import it.units.quoridor.domain.Position;
 
-import java.util.*;
-
-/** BFS-based reachability check. Used by wall validator to ensure no player is fully blocked. */
+import java.util.function.Predicate;
+
+/**
+ * BFS-based reachability check. Used by wall validator to ensure no player is fully blocked.
+ *
+ * <p>Walks cell indices through {@link Position}'s neighbour tables; the queue and visited set
+ * are local to each call, so one instance can be shared between threads.
+ */
 public class BfsPathFinder implements PathFinder {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     @Override
     public boolean pathExists(Board board, Position positionA, Position positionB) {
-        Queue<Position> queue = new LinkedList<>();
-        Set<Position> visited = new HashSet<>();
+        return pathExistsToAny(board, positionA, positionB::equals);
+    }
 
-        queue.offer(positionA);
-        visited.add(positionA);
+    @Override
+    public boolean pathExistsToAny(Board board, Position start, Predicate<Position> goal) {
+        int[] queue = new int[Position.CELL_COUNT];
+        boolean[] visited = new boolean[Position.CELL_COUNT];
+        int head = 0;
+        int tail = 0;
 
-        while (!queue.isEmpty()) {
-            Position current = queue.poll();
+        queue[tail++] = start.index();
+        visited[start.index()] = true;
 
-            if (current.equals(positionB)) {
+        while (head < tail) {
+            int current = queue[head++];
+
+            if (goal.test(Position.ofIndex(current))) {
                 return true;
             }
 
-            for (Direction dir : Direction.values()) {
-                if (board.isEdgeBlocked(current, dir)) {
-                    continue;
-                }
-
-                Optional<Position> maybeNext = current.tryMove(dir);
-                if (maybeNext.isEmpty()) {
+            int blocked = board.blockedDirectionMask(current);
+            for (Direction dir : DIRECTIONS) {
+                if ((blocked & (1 << dir.ordinal())) != 0) {
                     continue;
                 }
 
-                Position next = maybeNext.get();
-                if (!visited.contains(next)) {
-                    visited.add(next);
-                    queue.offer(next);
+                int next = Position.neighbour(current, dir);
+                if (next != Position.OFF_BOARD && !visited[next]) {
+                    visited[next] = true;
+                    queue[tail++] = next;
                 }
             }
         }
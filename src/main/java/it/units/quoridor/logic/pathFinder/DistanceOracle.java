@@ -0,0 +1,25 @@
+package it.units.quoridor.logic.pathFinder;
+
+import it.units.quoridor.domain.Board;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.domain.Position;
+
+/**
+ * Shortest-path distances (in single steps) to each player's goal line, respecting walls.
+ * Pawns are not obstacles: jumps make them at most a one-move detour, so the distance
+ * depends only on the walls on the board.
+ */
+public interface DistanceOracle {
+
+    /** Distance reported for cells from which the goal line cannot be reached. */
+    int UNREACHABLE = -1;
+
+    /** Shortest distance from the player's current position to their goal line. */
+    int distanceToGoal(Board board, PlayerId player);
+
+    /** Shortest distance from {@code from} to the given player's goal line. */
+    int distanceToGoal(Board board, PlayerId player, Position from);
+
+    /** Distance to the player's goal line from every cell, indexed {@code row * 9 + col}. */
+    int[] distanceMap(Board board, PlayerId player);
+}
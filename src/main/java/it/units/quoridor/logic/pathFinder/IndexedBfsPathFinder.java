@@ -0,0 +1,96 @@
+package it.units.quoridor.logic.pathFinder;
+
+import it.units.quoridor.domain.Board;
+import it.units.quoridor.domain.Direction;
+import it.units.quoridor.domain.Position;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Allocation-free BFS over cell indices ({@code row * 9 + col}).
+ *
+ * <p>Walks the board through {@link Board#blockedDirectionMask(int)} instead of
+ * {@code Position}/{@code Optional} objects, keeps the visited set in two {@code long}s and
+ * reuses a single int queue (each cell is enqueued at most once, so 81 slots suffice).
+ * Because the traversal state lives in fields, an instance must not be used by several threads at once.
+ */
+public class IndexedBfsPathFinder implements PathFinder {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    // Traversal state, reset at the start of every search
+    private final int[] queue = new int[Position.CELL_COUNT];
+    private int head;
+    private int tail;
+    private long visitedLow;   // cells 0..63
+    private long visitedHigh;  // cells 64..80
+
+    @Override
+    public boolean pathExists(Board board, Position positionA, Position positionB) {
+        int target = positionB.index();
+        return search(board, positionA.index(), bit(target, 0), bit(target, Long.SIZE), null);
+    }
+
+    @Override
+    public boolean pathExistsToAny(Board board, Position start, Predicate<Position> goal) {
+        return search(board, start.index(), 0L, 0L, goal);
+    }
+
+    @Override
+    public boolean pathExistsToAny(Board board, Position start, Set<Position> goals) {
+        long goalLow = 0L;
+        long goalHigh = 0L;
+        for (Position goal : goals) {
+            int cell = goal.index();
+            goalLow |= bit(cell, 0);
+            goalHigh |= bit(cell, Long.SIZE);
+        }
+        return search(board, start.index(), goalLow, goalHigh, null);
+    }
+
+    // Goal cells are given either as a mask (goalLow: cells 0..63, goalHigh: cells 64..80)
+    // or, when goal is non-null, by the predicate.
+    private boolean search(Board board, int start, long goalLow, long goalHigh, Predicate<Position> goal) {
+        visitedLow = 0L;
+        visitedHigh = 0L;
+        head = 0;
+        tail = 0;
+        enqueue(start);
+
+        while (head < tail) {
+            int current = queue[head++];
+
+            boolean reached = goal != null
+                    ? goal.test(Position.ofIndex(current))
+                    : (bit(current, 0) & goalLow) != 0 || (bit(current, Long.SIZE) & goalHigh) != 0;
+            if (reached) {
+                return true;
+            }
+
+            int blocked = board.blockedDirectionMask(current);
+            for (Direction direction : DIRECTIONS) {
+                int next = Position.neighbour(current, direction);
+                if ((blocked & (1 << direction.ordinal())) == 0 && next != Position.OFF_BOARD) enqueue(next);
+            }
+        }
+        return false;
+    }
+
+    private void enqueue(int cell) {
+        if (cell < Long.SIZE) {
+            if ((visitedLow & (1L << cell)) != 0) return;
+            visitedLow |= 1L << cell;
+        } else {
+            if ((visitedHigh & (1L << (cell - Long.SIZE))) != 0) return;
+            visitedHigh |= 1L << (cell - Long.SIZE);
+        }
+        queue[tail++] = cell;
+    }
+
+    // Bit for cell within the 64-cell window starting at firstCell, or 0 if outside it
+    private static long bit(int cell, int firstCell) {
+        int offset = cell - firstCell;
+        return offset >= 0 && offset < Long.SIZE ? 1L << offset : 0L;
+    }
+}
@@ -3,8 +3,22 @@ package it.units.quoridor.logic.pathFinder;
 import it.units.quoridor.domain.Board;
 import it.units.quoridor.domain.Position;
 
+import java.util.Set;
+import java.util.function.Predicate;
+
 /** Checks reachability between two positions on the board, respecting walls. */
 public interface PathFinder {
     /** Returns true if a path exists from positionA to positionB without crossing walls. */
     boolean pathExists(Board board, Position positionA, Position positionB);
+
+    /**
+     * Returns true if any position accepted by {@code goal} (e.g. a whole goal row) is reachable
+     * from {@code start}. Answered in a single traversal that stops at the first goal reached.
+     */
+    boolean pathExistsToAny(Board board, Position start, Predicate<Position> goal);
+
+    /** Returns true if any of the goal positions is reachable from {@code start}. */
+    default boolean pathExistsToAny(Board board, Position start, Set<Position> goals) {
+        return pathExistsToAny(board, start, goals::contains);
+    }
 }
@@ -16,6 +16,11 @@ public interface GameRules {
     /** Set of positions a player must reach to win (a full row or column edge). */
     Set<Position> getGoalPositions(PlayerId playerId);
 
+    /** True if {@code position} is one of the player's goal positions. */
+    default boolean isGoal(PlayerId playerId, Position position) {
+        return getGoalPositions(playerId).contains(position);
+    }
+
     /** Number of walls each player starts with. */
     int getInitialWallCount(PlayerCount playerCount);
 }
@@ -3,44 +3,67 @@ package it.units.quoridor.logic.rules;
 import it.units.quoridor.domain.PlayerId;
 import it.units.quoridor.domain.Position;
 
+import java.util.EnumMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 
-/** Standard Quoridor rules: P1 starts bottom, P2 starts top, 10 walls each. */
+/**
+ * Standard Quoridor rules: P1 starts bottom, P2 starts top, 10 walls each.
+ *
+ * <p>Goal sets are built once and shared; {@link #isGoal} compares a single coordinate.
+ */
 public class QuoridorGameRules implements GameRules {
 
+    private static final int LAST = Position.MAX_COORDINATE;
+    private static final int FIRST = Position.MIN_COORDINATE;
+
+    private static final Map<PlayerId, Set<Position>> GOALS = new EnumMap<>(PlayerId.class);
+
+    static {
+        GOALS.put(PlayerId.PLAYER_1, buildRow(LAST));
+        GOALS.put(PlayerId.PLAYER_2, buildRow(FIRST));
+        GOALS.put(PlayerId.PLAYER_3, buildColumn(LAST));
+        GOALS.put(PlayerId.PLAYER_4, buildColumn(FIRST));
+    }
+
     @Override
     public Position getStartPosition(PlayerId playerId) {
         return switch (playerId) {
-            case PLAYER_1 -> new Position(0, 4);
-            case PLAYER_2 -> new Position(8, 4);
-            case PLAYER_3 -> new Position(4, 0);
-            case PLAYER_4 -> new Position(4, 8);
+            case PLAYER_1 -> Position.of(0, 4);
+            case PLAYER_2 -> Position.of(8, 4);
+            case PLAYER_3 -> Position.of(4, 0);
+            case PLAYER_4 -> Position.of(4, 8);
         };
     }
 
     @Override
     public Set<Position> getGoalPositions(PlayerId playerId) {
+        return GOALS.get(playerId);
+    }
+
+    @Override
+    public boolean isGoal(PlayerId playerId, Position position) {
         return switch (playerId) {
-            case PLAYER_1 -> buildRow(8);
-            case PLAYER_2 -> buildRow(0);
-            case PLAYER_3 -> buildColumn(8);
-            case PLAYER_4 -> buildColumn(0);
+            case PLAYER_1 -> position.row() == LAST;
+            case PLAYER_2 -> position.row() == FIRST;
+            case PLAYER_3 -> position.col() == LAST;
+            case PLAYER_4 -> position.col() == FIRST;
         };
     }
 
-    private Set<Position> buildRow(int row) {
+    private static Set<Position> buildRow(int row) {
         Set<Position> positions = new HashSet<>();
         for (int col = Position.MIN_COORDINATE; col <= Position.MAX_COORDINATE; col++) {
-            positions.add(new Position(row, col));
+            positions.add(Position.of(row, col));
         }
         return Set.copyOf(positions);
     }
 
-    private Set<Position> buildColumn(int col) {
+    private static Set<Position> buildColumn(int col) {
         Set<Position> positions = new HashSet<>();
         for (int row = Position.MIN_COORDINATE; row <= Position.MAX_COORDINATE; row++) {
-            positions.add(new Position(row, col));
+            positions.add(Position.of(row, col));
         }
         return Set.copyOf(positions);
     }
@@ -17,6 +17,6 @@ public class QuoridorWinChecker implements WinChecker {
     @Override
     public boolean isWin(GameState state, PlayerId playerId) {
         Position currentPosition = state.playerPosition(playerId);
-        return rules.getGoalPositions(playerId).contains(currentPosition);
+        return rules.isGoal(playerId, currentPosition);
     }
 }
@@ -0,0 +1,169 @@
+package it.units.quoridor.logic.validation;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+import it.units.quoridor.logic.rules.GameRules;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-board facts that let the wall validator decide most candidates without a path search.
+ *
+ * <ul>
+ *   <li><b>Path edges</b> — one current shortest path per player. A wall that cuts none of
+ *       these edges leaves every path intact, so it can never disconnect anybody.</li>
+ *   <li><b>Bridges</b> (Tarjan) — edges whose removal splits the cell graph. A wall cutting a
+ *       bridge that leaves a player on the side without any of their goal cells is illegal.</li>
+ * </ul>
+ * Every other wall still needs a full path check: its two cut edges may be individually
+ * harmless yet together form a cut.
+ */
+final class PathImpact {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Board board;
+    private final List<Player> players;
+    private final boolean pathsKnown;
+    private final byte[] pathEdges = new byte[Position.CELL_COUNT];
+    private final byte[] bridgeEdges = new byte[Position.CELL_COUNT];
+
+    // DFS forest used for bridge separation queries
+    private final int[] parent = new int[Position.CELL_COUNT];
+    private final int[] entry = new int[Position.CELL_COUNT];
+    private final int[] exit = new int[Position.CELL_COUNT];
+    private final int[] low = new int[Position.CELL_COUNT];
+    private final int[] root = new int[Position.CELL_COUNT];
+    private final int[] playerCells;
+    private final int[][] goalsInSubtree; // per player: own goal cells in each DFS subtree
+    private int clock;
+
+    PathImpact(Board board, List<Player> players, GameRules rules, DistanceOracle distances) {
+        this.board = board;
+        this.players = players;
+
+        playerCells = new int[players.size()];
+        goalsInSubtree = new int[players.size()][Position.CELL_COUNT];
+
+        boolean allPathsFound = true;
+        for (int i = 0; i < players.size(); i++) {
+            PlayerId id = players.get(i).id();
+            playerCells[i] = board.playerPosition(id).index();
+            for (Position goal : rules.getGoalPositions(id)) {
+                goalsInSubtree[i][goal.index()] = 1;
+            }
+            int[] distance = distances.distanceMap(board, id);
+            allPathsFound &= markShortestPath(board, distance, playerCells[i], pathEdges);
+        }
+        pathsKnown = allPathsFound;
+
+        findBridges();
+    }
+
+    /** True if this analysis was made for exactly this board and player list. */
+    boolean isFor(Board board, List<Player> players) {
+        return this.board == board && this.players.equals(players);
+    }
+
+    /** True if the wall cuts an edge of some player's current shortest path (or paths are unknown). */
+    boolean touchesPath(Wall wall) {
+        if (!pathsKnown) return true;
+        for (BlockedEdge edge : wall.blockedEdges()) {
+            if (isMarked(pathEdges, edge)) return true;
+        }
+        return false;
+    }
+
+    /** True if the wall cuts a bridge that separates some player from all of their goal cells. */
+    boolean isolatesPlayer(Wall wall) {
+        for (BlockedEdge edge : wall.blockedEdges()) {
+            if (!isMarked(bridgeEdges, edge)) continue;
+
+            int a = edge.position().index();
+            int b = Position.neighbour(a, edge.direction());
+            int child = parent[b] == a ? b : a;
+
+            for (int p = 0; p < playerCells.length; p++) {
+                int player = playerCells[p];
+                if (root[player] != root[child]) continue;
+
+                int goalsBelow = goalsInSubtree[p][child];
+                int goalsInComponent = goalsInSubtree[p][root[child]];
+                boolean playerBelow = entry[child] <= entry[player] && exit[player] <= exit[child];
+
+                if (playerBelow ? goalsBelow == 0 : goalsBelow == goalsInComponent) return true;
+            }
+        }
+        return false;
+    }
+
+    // Walks downhill on the distance field from the player's cell, marking one shortest path
+    private static boolean markShortestPath(Board board, int[] distance, int from, byte[] marks) {
+        if (distance[from] == DistanceOracle.UNREACHABLE) return false;
+
+        int current = from;
+        while (distance[current] > 0) {
+            int blocked = board.blockedDirectionMask(current);
+            int next = Position.OFF_BOARD;
+            for (Direction direction : DIRECTIONS) {
+                if ((blocked & (1 << direction.ordinal())) != 0) continue;
+                int neighbour = Position.neighbour(current, direction);
+                if (neighbour != Position.OFF_BOARD && distance[neighbour] == distance[current] - 1) {
+                    mark(marks, current, direction);
+                    next = neighbour;
+                    break;
+                }
+            }
+            current = next;
+        }
+        return true;
+    }
+
+    private void findBridges() {
+        Arrays.fill(parent, -1);
+        Arrays.fill(entry, -1);
+        for (int cell = 0; cell < Position.CELL_COUNT; cell++) {
+            if (entry[cell] == -1) {
+                dfs(cell, cell);
+            }
+        }
+    }
+
+    private void dfs(int cell, int component) {
+        entry[cell] = low[cell] = clock++;
+        root[cell] = component;
+
+        int blocked = board.blockedDirectionMask(cell);
+        for (Direction direction : DIRECTIONS) {
+            if ((blocked & (1 << direction.ordinal())) != 0) continue;
+            int next = Position.neighbour(cell, direction);
+            if (next == Position.OFF_BOARD) continue;
+
+            if (entry[next] == -1) {
+                parent[next] = cell;
+                dfs(next, component);
+                low[cell] = Math.min(low[cell], low[next]);
+                for (int[] goals : goalsInSubtree) {
+                    goals[cell] += goals[next];
+                }
+                if (low[next] > entry[cell]) {
+                    mark(bridgeEdges, cell, direction);
+                }
+            } else if (next != parent[cell]) {
+                low[cell] = Math.min(low[cell], entry[next]);
+            }
+        }
+        exit[cell] = clock++;
+    }
+
+    // Marks the undirected edge on both endpoints
+    private static void mark(byte[] marks, int cell, Direction direction) {
+        marks[cell] |= (byte) (1 << direction.ordinal());
+        marks[Position.neighbour(cell, direction)] |= (byte) (1 << direction.opposite().ordinal());
+    }
+
+    private static boolean isMarked(byte[] marks, BlockedEdge edge) {
+        return (marks[edge.position().index()] & (1 << edge.direction().ordinal())) != 0;
+    }
+}
@@ -27,7 +27,7 @@ public class QuoridorPawnMoveValidator implements PawnMoveValidator {
 
         return currentPosition.tryMove(direction)
                 .filter(to -> !currentBoard.isEdgeBlocked(currentPosition, direction))
-                .map(to -> currentBoard.occupantAt(to).isEmpty() || canJump(currentBoard, to, direction))
+                .map(to -> !currentBoard.isOccupied(to) || canJump(currentBoard, to, direction))
                 .orElse(false);
     }
 
@@ -53,20 +53,20 @@ public class QuoridorPawnMoveValidator implements PawnMoveValidator {
     private boolean canStep(Board board, Position from, Direction dir) {
         return from.tryMove(dir)
                 .filter(to -> !board.isEdgeBlocked(from, dir))
-                .filter(to -> board.occupantAt(to).isEmpty())
+                .filter(to -> !board.isOccupied(to))
                 .isPresent();
     }
 
     private boolean canStraightJump(Board board, Position from, Direction dir) {
         return from.tryMove(dir)
                 .filter(adj -> !board.isEdgeBlocked(from, dir))
-                .filter(adj -> board.occupantAt(adj).isPresent())
+                .filter(board::isOccupied)
                 .filter(adj -> canJump(board, adj, dir))
                 .isPresent();
     }
 
     private boolean canDiagonalJump(Board board, Position from, Position target, int stepDr, int stepDc) {
-        if (board.occupantAt(target).isPresent()) return false;
+        if (board.isOccupied(target)) return false;
 
         Optional<Direction> verticalFront   = Direction.fromUnitDelta(stepDr, 0);
         Optional<Direction> horizontalFront = Direction.fromUnitDelta(0, stepDc);
@@ -75,7 +75,7 @@ public class QuoridorPawnMoveValidator implements PawnMoveValidator {
                 && horizontalFront.isPresent()
                 && from.tryMove(verticalFront.get())
                 .filter(adj -> !board.isEdgeBlocked(from, verticalFront.get()))
-                .filter(adj -> board.occupantAt(adj).isPresent())
+                .filter(board::isOccupied)
                 .filter(adj -> !canStraightJump(board, from, verticalFront.get()))
                 .flatMap(adj -> adj.tryMove(horizontalFront.get())
                         .filter(p -> p.equals(target))
@@ -89,7 +89,7 @@ public class QuoridorPawnMoveValidator implements PawnMoveValidator {
                 && verticalFront.isPresent()
                 && from.tryMove(horizontalFront.get())
                 .filter(adj -> !board.isEdgeBlocked(from, horizontalFront.get()))
-                .filter(adj -> board.occupantAt(adj).isPresent())
+                .filter(board::isOccupied)
                 .filter(adj -> !canStraightJump(board, from, horizontalFront.get()))
                 .flatMap(adj -> adj.tryMove(verticalFront.get())
                         .filter(p -> p.equals(target))
@@ -126,7 +126,7 @@ public class QuoridorPawnMoveValidator implements PawnMoveValidator {
             return false;
         }
 
-        return board.occupantAt(behind).isEmpty();
+        return !board.isOccupied(behind);
     }
 
 }
@@ -1,11 +1,11 @@
 package it.units.quoridor.logic.validation;
 
 import it.units.quoridor.domain.*;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
 import it.units.quoridor.logic.pathFinder.PathFinder;
 import it.units.quoridor.logic.rules.GameRules;
 
-import java.util.Set;
-
 /**
  * Three-step wall placement validation:
  *
@@ -16,37 +16,102 @@ import java.util.Set;
  *       can still reach their goal row. This is the critical Quoridor rule that prevents
  *       players from being completely walled off.</li>
  * </ol>
+ *
+ * Step 3 first consults a {@link PathImpact} computed once per board: walls that miss every
+ * player's current shortest path are accepted, and walls cutting an isolating bridge are
+ * rejected, without any search. Only the remaining candidates run the {@link PathFinder}.
  */
 public class QuoridorWallPlacementValidator implements WallPlacementValidator {
 
+    private static final int WALL_GRID = WallPosition.MAX_COORDINATE + 1;
+    private static final long FIRST_COLUMN = 0x0101010101010101L;
+    private static final long LAST_COLUMN = FIRST_COLUMN << (WALL_GRID - 1);
+
     private final GameRules rules;
     private final PathFinder pathFinder;
+    private final DistanceOracle distances;
+
+    // Analysis of the last position seen; candidates are usually checked against the same one
+    private volatile PathImpact lastImpact;
 
     public QuoridorWallPlacementValidator(GameRules rules, PathFinder pathFinder) {
+        this(rules, pathFinder, new BfsDistanceOracle(rules));
+    }
+
+    public QuoridorWallPlacementValidator(GameRules rules, PathFinder pathFinder, DistanceOracle distances) {
         this.rules = rules;
         this.pathFinder = pathFinder;
+        this.distances = distances;
     }
 
     @Override
     public boolean canPlaceWall(GameState state, PlayerId player, Wall wall) {
 
         Board board = state.board();
-        Set<BlockedEdge> existingBlocked = board.allBlockedEdges();
 
         for (BlockedEdge edge : wall.blockedEdges()) {
-            if (existingBlocked.contains(edge)) {
+            if (board.isEdgeBlocked(edge.position(), edge.direction())) {
                 return false;
             }
         }
 
-        boolean crosses = board.walls().stream()
-                .anyMatch(wall1 -> wall1.position().equals(wall.position()) &&
-                        wall1.orientation() != wall.orientation());
-        if (crosses) return false;
+        WallOrientation perpendicular = wall.orientation() == WallOrientation.HORIZONTAL
+                ? WallOrientation.VERTICAL
+                : WallOrientation.HORIZONTAL;
+        if (board.hasWall(Wall.of(wall.position(), perpendicular))) return false;
+
+        return preservesAllPaths(state, impactFor(state), wall);
+    }
+
+    /**
+     * Batched version of {@link #canPlaceWall} over all 128 candidates: overlaps and crossings
+     * are ruled out for every anchor at once with mask shifts, and the path analysis of the
+     * position is shared by all remaining candidates.
+     */
+    @Override
+    public WallSet legalWalls(GameState state, PlayerId player) {
+        Board board = state.board();
+        long horizontal = board.wallMask(WallOrientation.HORIZONTAL);
+        long vertical = board.wallMask(WallOrientation.VERTICAL);
+
+        // a horizontal wall overlaps horizontal walls anchored one column left or right,
+        // a vertical wall overlaps vertical walls one row above or below; any wall crosses
+        // the perpendicular wall on its own anchor
+        long horizontalFree = ~(horizontal
+                | ((horizontal << 1) & ~FIRST_COLUMN)
+                | ((horizontal >>> 1) & ~LAST_COLUMN)
+                | vertical);
+        long verticalFree = ~(vertical
+                | (vertical << WALL_GRID)
+                | (vertical >>> WALL_GRID)
+                | horizontal);
+
+        PathImpact impact = impactFor(state);
+        return new WallSet(
+                legalAmong(state, impact, horizontalFree, WallOrientation.HORIZONTAL),
+                legalAmong(state, impact, verticalFree, WallOrientation.VERTICAL));
+    }
+
+    private long legalAmong(GameState state, PathImpact impact, long candidates, WallOrientation orientation) {
+        long legal = 0L;
+        for (long bits = candidates; bits != 0; bits &= bits - 1) {
+            int slot = Long.numberOfTrailingZeros(bits);
+            Wall wall = Wall.of(orientation, slot);
+            if (preservesAllPaths(state, impact, wall)) {
+                legal |= 1L << slot;
+            }
+        }
+        return legal;
+    }
+
+    private boolean preservesAllPaths(GameState state, PathImpact impact, Wall wall) {
+        if (!impact.touchesPath(wall)) return true;
+        if (impact.isolatesPlayer(wall)) return false;
 
-        Board withWall = board.addWall(wall);
+        // one traversal per player towards their whole goal line
+        Board withWall = state.board().addWall(wall);
         for (Player p : state.players()) {
-            if (!hasPathToGoal(withWall, state.playerPosition(p.id()), rules.getGoalPositions(p.id()))) {
+            if (!pathFinder.pathExistsToAny(withWall, state.playerPosition(p.id()), rules.getGoalPositions(p.id()))) {
                 return false;
             }
         }
@@ -54,12 +119,12 @@ public class QuoridorWallPlacementValidator implements WallPlacementValidator {
         return true;
     }
 
-    private boolean hasPathToGoal(Board board, Position playerPosition, Set<Position> goalPositions) {
-        for (Position target : goalPositions) {
-            if (pathFinder.pathExists(board, playerPosition, target)) {
-                return true;
-            }
+    private PathImpact impactFor(GameState state) {
+        PathImpact impact = lastImpact;
+        if (impact == null || !impact.isFor(state.board(), state.players())) {
+            impact = new PathImpact(state.board(), state.players(), rules, distances);
+            lastImpact = impact;
         }
-        return false;
+        return impact;
     }
 }
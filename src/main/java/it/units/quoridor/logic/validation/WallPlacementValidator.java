@@ -7,4 +7,19 @@ import it.units.quoridor.domain.*;
 public interface WallPlacementValidator {
     /** Returns true if the wall can be legally placed in the current state. */
     boolean canPlaceWall(GameState state, PlayerId player, Wall wall);
+
+    /** All walls the player could legally place in the current state, checked one by one. */
+    default WallSet legalWalls(GameState state, PlayerId player) {
+        long horizontal = 0L;
+        long vertical = 0L;
+        for (int row = WallPosition.MIN_COORDINATE; row <= WallPosition.MAX_COORDINATE; row++) {
+            for (int col = WallPosition.MIN_COORDINATE; col <= WallPosition.MAX_COORDINATE; col++) {
+                long bit = 1L << (row * (WallPosition.MAX_COORDINATE + 1) + col);
+                WallPosition position = WallPosition.of(row, col);
+                if (canPlaceWall(state, player, Wall.of(position, WallOrientation.HORIZONTAL))) horizontal |= bit;
+                if (canPlaceWall(state, player, Wall.of(position, WallOrientation.VERTICAL))) vertical |= bit;
+            }
+        }
+        return new WallSet(horizontal, vertical);
+    }
 }
@@ -0,0 +1,42 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.engine.moves.MoveCodec;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+
+/** Reads records written by {@link BinaryRecordWriter}, one at a time. */
+public final class BinaryRecordReader implements GameRecordReader {
+
+    private final DataInputStream in;
+
+    public BinaryRecordReader(InputStream in) {
+        this.in = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in));
+    }
+
+    @Override
+    public GameRecord read() throws IOException {
+        int seats = in.read();
+        if (seats < 0) return null;
+
+        int length = in.readUnsignedShort();
+        byte[] moves = new byte[length];
+        in.readFully(moves);
+        for (byte move : moves) {
+            if (!MoveCodec.isValid(move & 0xFF)) throw new StreamCorruptedException("Invalid move code: " + (move & 0xFF));
+        }
+        try {
+            return new GameRecord(GameRecord.playerCount(seats), moves);
+        } catch (IllegalArgumentException e) {
+            throw new StreamCorruptedException(e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
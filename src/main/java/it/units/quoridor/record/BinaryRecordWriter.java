@@ -0,0 +1,42 @@
+package it.units.quoridor.record;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes records as a stream of length-prefixed binary records:
+ * <pre>
+ *   record := players:u8  length:u16  move:u8 * length
+ * </pre>
+ * Numbers are big-endian and moves are {@link it.units.quoridor.engine.moves.MoveCodec} codes,
+ * so a game costs three bytes plus one per move.
+ */
+public final class BinaryRecordWriter extends GameRecordWriter {
+
+    /** Bytes before the moves of a record. */
+    public static final int HEADER_BYTES = 3;
+
+    private final DataOutputStream out;
+
+    public BinaryRecordWriter(OutputStream out) {
+        this.out = new DataOutputStream(out instanceof BufferedOutputStream ? out : new BufferedOutputStream(out));
+    }
+
+    @Override
+    public void write(GameRecord record) throws IOException {
+        encode(out, record);
+    }
+
+    static void encode(DataOutputStream out, GameRecord record) throws IOException {
+        out.writeByte(GameRecord.seats(record.playerCount()));
+        out.writeShort(record.length());
+        record.writeMoves(out);
+    }
+
+    @Override
+    protected void closeOutput() throws IOException {
+        out.close();
+    }
+}
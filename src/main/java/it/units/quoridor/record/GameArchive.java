@@ -0,0 +1,198 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.PlayerCount;
+import it.units.quoridor.logic.rules.setup.InitialStateFactory;
+import it.units.quoridor.logic.rules.setup.PlayerSpec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only archive of many games in one memory-mapped file, written by {@link GameArchiveWriter}:
+ * <pre>
+ *   file   := header  record * games  index
+ *   header := magic:u32  games:u32  indexOffset:u64
+ *   record := players:u8  length:u16  move:u8 * length   (as {@link BinaryRecordWriter})
+ *   index  := recordOffset:u64 * games
+ * </pre>
+ * Any game or ply is read straight from the mapping through the index, without reading the rest
+ * of the file. {@link #scan} replays games on one reused {@link SearchBoard} per player count, so
+ * walking millions of plies allocates nothing per move.
+ *
+ * <p>The file is mapped in 1 GiB segments that overlap by the size of the longest record, so a
+ * record or index entry never straddles two mappings. Reads are thread-safe; each scan uses its
+ * own boards, so disjoint ranges can be scanned in parallel.
+ */
+public final class GameArchive implements Closeable {
+
+    static final int MAGIC = 0x51524131;  // "QRA1"
+    static final int HEADER_BYTES = 16;
+
+    private static final long SEGMENT_BYTES = 1L << 30;
+    private static final int MAX_RECORD_BYTES = BinaryRecordWriter.HEADER_BYTES + GameRecord.MAX_MOVES;
+
+    private final FileChannel channel;
+    private final long segmentBytes;
+    private final ByteBuffer[] segments;
+    private final int games;
+    private final long indexOffset;
+    private final SearchBoard twoPlayerStart;
+    private final SearchBoard fourPlayerStart;
+
+    private GameArchive(FileChannel channel, long segmentBytes, GameRules rules) throws IOException {
+        this.channel = channel;
+        this.segmentBytes = segmentBytes;
+
+        long size = channel.size();
+        int count = (int) Math.max(1, (size + segmentBytes - 1) / segmentBytes);
+        segments = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = i * segmentBytes;
+            long length = Math.min(size - start, segmentBytes + MAX_RECORD_BYTES);
+            segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.max(0, length));
+        }
+
+        if (size < HEADER_BYTES || segments[0].getInt(0) != MAGIC) throw new IOException("Not a game archive");
+        games = segments[0].getInt(4);
+        indexOffset = segments[0].getLong(8);
+        if (games < 0 || indexOffset < HEADER_BYTES || indexOffset + 8L * games != size) {
+            throw new IOException("Corrupt game archive index");
+        }
+
+        twoPlayerStart = startBoard(rules, PlayerCount.TWO_PLAYERS);
+        fourPlayerStart = startBoard(rules, PlayerCount.FOUR_PLAYERS);
+    }
+
+    /** Maps {@code file}; positions are replayed with {@code rules}. */
+    public static GameArchive open(Path file, GameRules rules) throws IOException {
+        return open(file, rules, SEGMENT_BYTES);
+    }
+
+    // for tests -> package-private: small segments exercise records across segment boundaries
+    static GameArchive open(Path file, GameRules rules, long segmentBytes) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new GameArchive(channel, segmentBytes, rules);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static SearchBoard startBoard(GameRules rules, PlayerCount playerCount) {
+        List<PlayerSpec> specs = new ArrayList<>();
+        for (int seat = 0; seat < GameRecord.seats(playerCount); seat++) {
+            specs.add(new PlayerSpec(PlayerId.values()[seat], "Player " + (seat + 1)));
+        }
+        return SearchBoard.from(InitialStateFactory.create(rules, playerCount, specs), rules);
+    }
+
+    /** Number of games. */
+    public int size() {
+        return games;
+    }
+
+    public PlayerCount playerCount(int game) {
+        return GameRecord.playerCount(byteAt(offset(game)));
+    }
+
+    /** Number of moves of {@code game}. */
+    public int length(int game) {
+        long offset = offset(game);
+        return byteAt(offset + 1) << 8 | byteAt(offset + 2);
+    }
+
+    /** Code of the move at index {@code ply} (0 for the first move) of {@code game}. */
+    public int move(int game, int ply) {
+        if (ply < 0 || ply >= length(game)) throw new IndexOutOfBoundsException("ply " + ply);
+        return byteAt(offset(game) + BinaryRecordWriter.HEADER_BYTES + ply);
+    }
+
+    /** The whole record of {@code game}. */
+    public GameRecord game(int game) {
+        long offset = offset(game);
+        byte[] moves = new byte[length(game)];
+        segment(offset).get(local(offset) + BinaryRecordWriter.HEADER_BYTES, moves);
+        return new GameRecord(playerCount(game), moves);
+    }
+
+    /** A new search board holding the position of {@code game} after its first {@code ply} moves. */
+    public SearchBoard position(int game, int ply) {
+        if (ply < 0 || ply > length(game)) throw new IndexOutOfBoundsException("ply " + ply);
+        SearchBoard board = start(playerCount(game)).copy();
+        long moves = offset(game) + BinaryRecordWriter.HEADER_BYTES;
+        for (int i = 0; i < ply; i++) {
+            board.make(byteAt(moves + i));
+        }
+        return board;
+    }
+
+    /** Replays every game. */
+    public void scan(PlyVisitor visitor) {
+        scan(0, games, visitor);
+    }
+
+    /**
+     * Replays games {@code from} (inclusive) to {@code to} (exclusive). Moves are not validated.
+     *
+     * @throws IllegalArgumentException if a record has an unsupported player count
+     */
+    public void scan(int from, int to, PlyVisitor visitor) {
+        if (from < 0 || to > games || from > to) throw new IndexOutOfBoundsException(from + ".." + to);
+        SearchBoard twoPlayers = twoPlayerStart.copy();
+        SearchBoard fourPlayers = fourPlayerStart.copy();
+
+        for (int game = from; game < to; game++) {
+            long offset = offset(game);
+            ByteBuffer segment = segment(offset);
+            int record = local(offset);
+            PlayerCount playerCount = GameRecord.playerCount(segment.get(record) & 0xFF);
+            int length = (segment.get(record + 1) & 0xFF) << 8 | (segment.get(record + 2) & 0xFF);
+
+            SearchBoard board = playerCount == PlayerCount.FOUR_PLAYERS ? fourPlayers : twoPlayers;
+            board.copyFrom(start(playerCount));
+            for (int ply = 0; ply < length; ply++) {
+                int move = segment.get(record + BinaryRecordWriter.HEADER_BYTES + ply) & 0xFF;
+                visitor.visit(game, ply, board, move);
+                board.make(move);
+            }
+            visitor.gameEnd(game, board);
+        }
+    }
+
+    private SearchBoard start(PlayerCount playerCount) {
+        return playerCount == PlayerCount.FOUR_PLAYERS ? fourPlayerStart : twoPlayerStart;
+    }
+
+    private long offset(int game) {
+        if (game < 0 || game >= games) throw new IndexOutOfBoundsException("game " + game);
+        long entry = indexOffset + 8L * game;
+        return segment(entry).getLong(local(entry));
+    }
+
+    private int byteAt(long position) {
+        return segment(position).get(local(position)) & 0xFF;
+    }
+
+    private ByteBuffer segment(long position) {
+        return segments[(int) (position / segmentBytes)];
+    }
+
+    private int local(long position) {
+        return (int) (position % segmentBytes);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,64 @@
+package it.units.quoridor.record;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes a {@link GameArchive} file: records are streamed to disk as they come, and only their
+ * offsets (8 bytes per game) are kept in memory until {@link #close} appends the index and fills
+ * in the header.
+ */
+public final class GameArchiveWriter extends GameRecordWriter {
+
+    private final FileChannel channel;
+    private final DataOutputStream out;
+    private long position = GameArchive.HEADER_BYTES;
+    private long[] offsets = new long[1024];
+    private int games;
+
+    public GameArchiveWriter(Path file) throws IOException {
+        channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+        out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+        out.write(new byte[GameArchive.HEADER_BYTES]);  // filled in on close
+    }
+
+    @Override
+    public void write(GameRecord record) throws IOException {
+        if (games == Integer.MAX_VALUE) throw new IOException("Archive is full");
+        if (games == offsets.length) offsets = Arrays.copyOf(offsets, games * 2);
+        offsets[games++] = position;
+        BinaryRecordWriter.encode(out, record);
+        position += BinaryRecordWriter.HEADER_BYTES + record.length();
+    }
+
+    @Override
+    protected void closeOutput() throws IOException {
+        try {
+            for (int game = 0; game < games; game++) {
+                out.writeLong(offsets[game]);
+            }
+            out.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(GameArchive.HEADER_BYTES)
+                    .putInt(GameArchive.MAGIC)
+                    .putInt(games)
+                    .putLong(position)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } finally {
+            out.close();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.MoveResult;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.logic.rules.PlayerCount;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The moves of one game, in play order, as {@link MoveCodec} codes packed one per byte.
+ * Player names are not recorded. The move array is copied in and out, so a record never changes.
+ */
+public record GameRecord(PlayerCount playerCount, byte[] moves) {
+
+    /** Longest game a record holds; lengths are stored as unsigned 16-bit numbers. */
+    public static final int MAX_MOVES = 0xFFFF;
+
+    public GameRecord {
+        if (moves.length > MAX_MOVES) throw new IllegalArgumentException("Too many moves: " + moves.length);
+        moves = moves.clone();
+    }
+
+    public static GameRecord of(PlayerCount playerCount, int... moves) {
+        byte[] packed = new byte[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            if (!MoveCodec.isValid(moves[i])) throw new IllegalArgumentException("Invalid move code: " + moves[i]);
+            packed[i] = (byte) moves[i];
+        }
+        return new GameRecord(playerCount, packed);
+    }
+
+    /** A copy of the packed moves; {@link #move} reads one without copying. */
+    @Override
+    public byte[] moves() {
+        return moves.clone();
+    }
+
+    // Writers copy the moves straight from the record
+    void writeMoves(OutputStream out) throws IOException {
+        out.write(moves);
+    }
+
+    public int length() {
+        return moves.length;
+    }
+
+    /** Code of the move at index {@code ply} (0 for the first move). */
+    public int move(int ply) {
+        return moves[ply] & 0xFF;
+    }
+
+    public static int seats(PlayerCount playerCount) {
+        return playerCount == PlayerCount.FOUR_PLAYERS ? 4 : 2;
+    }
+
+    public static PlayerCount playerCount(int seats) {
+        return switch (seats) {
+            case 2 -> PlayerCount.TWO_PLAYERS;
+            case 4 -> PlayerCount.FOUR_PLAYERS;
+            default -> throw new IllegalArgumentException("Unsupported player count: " + seats);
+        };
+    }
+
+    /**
+     * Starts a new game on {@code engine} and plays every move, each by the player whose turn it is.
+     *
+     * @throws IllegalArgumentException if a move is illegal
+     */
+    public void replay(GameEngine engine) {
+        List<String> names = new ArrayList<>();
+        for (int seat = 1; seat <= seats(playerCount); seat++) {
+            names.add("Player " + seat);
+        }
+        engine.newGame(playerCount, names);
+
+        for (int ply = 0; ply < moves.length; ply++) {
+            MoveResult result = engine.playMove(engine.gameState().currentPlayerId(), move(ply));
+            if (!result.isValid()) {
+                throw new IllegalArgumentException("Illegal move " + MoveNotation.format(move(ply))
+                        + " at ply " + (ply + 1) + ": " + result.message());
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GameRecord other
+                && playerCount == other.playerCount
+                && Arrays.equals(moves, other.moves);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * playerCount.hashCode() + Arrays.hashCode(moves);
+    }
+
+    @Override
+    public String toString() {
+        return TextRecordWriter.format(this);
+    }
+}
@@ -0,0 +1,11 @@
+package it.units.quoridor.record;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/** Reads game records one at a time from a stream, without loading the whole input. */
+public interface GameRecordReader extends Closeable {
+
+    /** The next record, or {@code null} at the end of the input. */
+    GameRecord read() throws IOException;
+}
@@ -0,0 +1,80 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.engine.MoveListener;
+import it.units.quoridor.logic.rules.PlayerCount;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Streams game records to an output, one record per game.
+ *
+ * <p>As a {@link MoveListener} on an engine, it follows the moves leading to the current
+ * position of the game being played, including undo and redo, and writes them as a record when
+ * the next game starts, on {@link #finishGame} or on {@link #close}. Only the current game is
+ * held in memory; games already in progress when the writer is attached are not recorded.
+ */
+public abstract class GameRecordWriter implements MoveListener, Closeable {
+
+    private PlayerCount playerCount;
+    private byte[] moves = new byte[64];
+    private int length;
+
+    /** Writes a complete record. */
+    public abstract void write(GameRecord record) throws IOException;
+
+    /** Flushes and closes the underlying output. */
+    protected abstract void closeOutput() throws IOException;
+
+    @Override
+    public void gameStarted(PlayerCount playerCount) {
+        finishGameUnchecked();
+        this.playerCount = playerCount;
+        length = 0;
+    }
+
+    @Override
+    public void movePlayed(int ply, PlayerId player, int move) {
+        if (playerCount == null) return;  // attached in the middle of a game
+        if (ply < 1 || ply > length + 1) throw new IllegalStateException("Missing moves before ply " + ply);
+        if (ply > GameRecord.MAX_MOVES) throw new IllegalStateException("Game too long to record");
+
+        if (ply > moves.length) moves = Arrays.copyOf(moves, moves.length * 2);
+        moves[ply - 1] = (byte) move;
+        length = ply;
+    }
+
+    @Override
+    public void movesTakenBack(int ply) {
+        if (playerCount != null) length = Math.min(length, ply);
+    }
+
+    /** Writes the record of the game in progress, if any. */
+    public void finishGame() throws IOException {
+        if (playerCount != null) {
+            write(new GameRecord(playerCount, Arrays.copyOf(moves, length)));
+            playerCount = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finishGame();
+        } finally {
+            closeOutput();
+        }
+    }
+
+    // Listener callbacks cannot throw checked exceptions
+    private void finishGameUnchecked() {
+        try {
+            finishGame();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
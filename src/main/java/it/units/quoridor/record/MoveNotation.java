@@ -0,0 +1,67 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.domain.WallOrientation;
+import it.units.quoridor.domain.WallPosition;
+import it.units.quoridor.engine.moves.MoveCodec;
+
+/**
+ * Algebraic notation of {@link MoveCodec} moves. Columns are letters from {@code a} and rows are
+ * numbers from {@code 1}, both counted from the bottom-left corner (player 1's side).
+ * <ul>
+ *   <li>pawn move: the destination cell, e.g. {@code e2};</li>
+ *   <li>wall: the bottom-left cell of the four the wall runs between, then {@code h} or
+ *       {@code v}, e.g. {@code e3h}.</li>
+ * </ul>
+ * Formatting returns precomputed strings and parsing allocates nothing.
+ */
+public final class MoveNotation {
+
+    private static final int SIZE = 9;
+    private static final int WALL_SIZE = 8;
+    private static final String[] TEXT = new String[256];
+
+    static {
+        for (int cell = 0; cell < Position.CELL_COUNT; cell++) {
+            TEXT[MoveCodec.pawn(Position.ofIndex(cell))] = square(cell / SIZE, cell % SIZE);
+        }
+        for (int slot = 0; slot < WallPosition.SLOT_COUNT; slot++) {
+            String square = square(slot / WALL_SIZE, slot % WALL_SIZE);
+            TEXT[MoveCodec.wall(WallOrientation.HORIZONTAL, slot)] = square + 'h';
+            TEXT[MoveCodec.wall(WallOrientation.VERTICAL, slot)] = square + 'v';
+        }
+    }
+
+    private MoveNotation() {}
+
+    private static String square(int row, int col) {
+        return "" + (char) ('a' + col) + (char) ('1' + row);
+    }
+
+    /** Notation of a move code. */
+    public static String format(int move) {
+        if (!MoveCodec.isValid(move)) throw new IllegalArgumentException("Invalid move code: " + move);
+        return TEXT[move];
+    }
+
+    /** Move code of {@code text}, e.g. {@code e2} or {@code e3h}. */
+    public static int parse(CharSequence text) {
+        int length = text.length();
+        if (length == 2 || length == 3) {
+            int col = text.charAt(0) - 'a';
+            int row = text.charAt(1) - '1';
+            if (length == 2 && col >= 0 && col < SIZE && row >= 0 && row < SIZE) {
+                return row * SIZE + col;
+            }
+            if (length == 3 && col >= 0 && col < WALL_SIZE && row >= 0 && row < WALL_SIZE) {
+                int slot = row * WALL_SIZE + col;
+                switch (text.charAt(2)) {
+                    case 'h': return MoveCodec.wall(WallOrientation.HORIZONTAL, slot);
+                    case 'v': return MoveCodec.wall(WallOrientation.VERTICAL, slot);
+                    default: break;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid move: " + text);
+    }
+}
@@ -0,0 +1,16 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.engine.search.SearchBoard;
+
+/**
+ * Receives the positions of archived games as {@link GameArchive#scan} replays them. The board is
+ * reused for every game: copy it to keep a position.
+ */
+public interface PlyVisitor {
+
+    /** Called before each move of a game, with the position it is played from. */
+    void visit(int game, int ply, SearchBoard board, int move);
+
+    /** Called after the last move of a game, with its final position. */
+    default void gameEnd(int game, SearchBoard board) {}
+}
@@ -0,0 +1,49 @@
+package it.units.quoridor.record;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads records written by {@link TextRecordWriter}, one line at a time. Blank lines and lines
+ * starting with {@code #} are skipped.
+ */
+public final class TextRecordReader implements GameRecordReader {
+
+    private final BufferedReader in;
+    private int lineNumber;
+
+    public TextRecordReader(Reader in) {
+        this.in = in instanceof BufferedReader buffered ? buffered : new BufferedReader(in);
+    }
+
+    /** Parses one record line. */
+    public static GameRecord parse(String line) {
+        String[] tokens = line.trim().split("\\s+");
+        int[] moves = new int[tokens.length - 1];
+        for (int i = 1; i < tokens.length; i++) {
+            moves[i - 1] = MoveNotation.parse(tokens[i]);
+        }
+        return GameRecord.of(GameRecord.playerCount(Integer.parseInt(tokens[0])), moves);
+    }
+
+    @Override
+    public GameRecord read() throws IOException {
+        String line;
+        while ((line = in.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank() || line.startsWith("#")) continue;
+            try {
+                return parse(line);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Line " + lineNumber + ": " + e.getMessage(), e);
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
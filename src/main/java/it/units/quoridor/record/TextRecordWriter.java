@@ -0,0 +1,39 @@
+package it.units.quoridor.record;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes records as text, one game per line: the number of players, then the moves in
+ * {@link MoveNotation}, separated by spaces, e.g. {@code 2 e2 e8 e3h}.
+ */
+public final class TextRecordWriter extends GameRecordWriter {
+
+    private final Writer out;
+
+    public TextRecordWriter(Writer out) {
+        this.out = out instanceof BufferedWriter ? out : new BufferedWriter(out);
+    }
+
+    /** The text line of a record, without line terminator. */
+    public static String format(GameRecord record) {
+        StringBuilder line = new StringBuilder(4 + record.length() * 4);
+        line.append(GameRecord.seats(record.playerCount()));
+        for (int ply = 0; ply < record.length(); ply++) {
+            line.append(' ').append(MoveNotation.format(record.move(ply)));
+        }
+        return line.toString();
+    }
+
+    @Override
+    public void write(GameRecord record) throws IOException {
+        out.write(format(record));
+        out.write('\n');
+    }
+
+    @Override
+    protected void closeOutput() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,12 @@
+package it.units.quoridor.tournament;
+
+import it.units.quoridor.ai.Bot;
+
+import java.util.function.Supplier;
+
+/**
+ * A bot entered in a tournament. Every game gets fresh instances from {@code factory},
+ * so bots never share per-search state across concurrently running games.
+ */
+public record Contestant(String name, Supplier<Bot> factory) {
+}
@@ -0,0 +1,36 @@
+package it.units.quoridor.tournament;
+
+import java.util.List;
+
+/**
+ * Outcome of one tournament game.
+ *
+ * @param seats       contestant index per seat, in turn order
+ * @param winnerSeat  seat of the winner, or -1 if nobody won
+ * @param forfeitSeat seat that played an illegal move or failed to move, or -1
+ * @param moves       number of moves played
+ * @param moveNanos   thinking time of each move, in play order
+ */
+public record GameResult(int game, List<Integer> seats, int winnerSeat, int forfeitSeat,
+                         int moves, long[] moveNanos) {
+
+    /** True when the move limit was reached. */
+    public boolean isDraw() {
+        return winnerSeat < 0 && forfeitSeat < 0;
+    }
+
+    /** Contestant index who forfeited, or -1. */
+    public int forfeiter() {
+        return forfeitSeat < 0 ? -1 : seats.get(forfeitSeat);
+    }
+
+    /** Contestant index of the winner, or -1 if nobody won. */
+    public int winner() {
+        return winnerSeat < 0 ? -1 : seats.get(winnerSeat);
+    }
+
+    /** Contestant index who played the move at {@code ply}. */
+    public int moverAt(int ply) {
+        return seats.get(ply % seats.size());
+    }
+}
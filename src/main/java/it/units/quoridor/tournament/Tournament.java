@@ -0,0 +1,138 @@
+package it.units.quoridor.tournament;
+
+import it.units.quoridor.ai.Bot;
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.MoveResult;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.logic.rules.PlayerCount;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
+
+/**
+ * Plays bots against each other without a UI. Each game is one task on a fork-join pool and
+ * runs on its own engine, so games proceed in parallel on all available cores.
+ *
+ * <p>Seats rotate from game to game so every contestant moves first equally often. A bot that
+ * returns an illegal move or throws ends the game by forfeit: in a 2-player game its opponent
+ * wins, with four players nobody does. A game still running after {@code maxMoves} moves is
+ * a draw.
+ */
+public class Tournament {
+
+    private final Supplier<GameEngine> engines;
+    private final List<Contestant> contestants;
+    private final PlayerCount playerCount;
+    private final int maxMoves;
+
+    /**
+     * @param contestants two contestants for a 2-player game, four for a 4-player game
+     *                    (the same contestant may appear more than once)
+     */
+    public Tournament(Supplier<GameEngine> engines, List<Contestant> contestants, int maxMoves) {
+        if (contestants.size() != 2 && contestants.size() != 4) {
+            throw new IllegalArgumentException("A game needs 2 or 4 contestants, got " + contestants.size());
+        }
+        if (maxMoves < 1) {
+            throw new IllegalArgumentException("maxMoves must be positive");
+        }
+        this.engines = engines;
+        this.contestants = List.copyOf(contestants);
+        this.playerCount = contestants.size() == 2 ? PlayerCount.TWO_PLAYERS : PlayerCount.FOUR_PLAYERS;
+        this.maxMoves = maxMoves;
+    }
+
+    public List<Contestant> contestants() {
+        return contestants;
+    }
+
+    /** Plays {@code games} games on {@code pool}, one task per game; results are in game order. */
+    public List<GameResult> run(int games, ForkJoinPool pool) {
+        List<ForkJoinTask<GameResult>> tasks = new ArrayList<>(games);
+        for (int game = 0; game < games; game++) {
+            int number = game;
+            tasks.add(pool.submit(() -> play(number)));
+        }
+
+        List<GameResult> results = new ArrayList<>(games);
+        for (ForkJoinTask<GameResult> task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Plays a single game; seats are rotated by the game number. Each seat gets a fresh bot,
+     * closed when the game ends; a bot that cannot be created forfeits before the first move.
+     */
+    public GameResult play(int game) {
+        int players = contestants.size();
+        List<Integer> seats = new ArrayList<>(players);
+        List<String> names = new ArrayList<>(players);
+        for (int seat = 0; seat < players; seat++) {
+            int contestant = (seat + game) % players;
+            seats.add(contestant);
+            names.add(contestants.get(contestant).name());
+        }
+
+        Bot[] bots = new Bot[players];
+        try {
+            for (int seat = 0; seat < players; seat++) {
+                try {
+                    bots[seat] = contestants.get(seats.get(seat)).factory().get();
+                } catch (RuntimeException e) {
+                    return forfeit(game, seats, seat, 0, new long[0]);
+                }
+            }
+            return play(game, seats, names, bots);
+        } finally {
+            for (Bot bot : bots) {
+                if (bot != null) bot.close();
+            }
+        }
+    }
+
+    private GameResult play(int game, List<Integer> seats, List<String> names, Bot[] bots) {
+        GameEngine engine = engines.get();
+        engine.newGame(playerCount, names);
+
+        long[] moveNanos = new long[maxMoves];
+        int moves = 0;
+        while (moves < maxMoves) {
+            GameState state = engine.gameState();
+            int seat = state.currentPlayerIndex();
+
+            long start = System.nanoTime();
+            MoveResult result;
+            try {
+                Move move = bots[seat].chooseMove(state);
+                moveNanos[moves] = System.nanoTime() - start;
+                result = move.playerId() == state.currentPlayerId()
+                        ? move.applyTo(engine)
+                        : MoveResult.failure("Move for the wrong player");
+            } catch (RuntimeException e) {
+                moveNanos[moves] = System.nanoTime() - start;
+                result = MoveResult.failure(e.getMessage());
+            }
+            moves++;
+
+            if (!result.isValid()) {
+                return forfeit(game, seats, seat, moves, Arrays.copyOf(moveNanos, moves));
+            }
+            if (result.isWin()) {
+                return new GameResult(game, seats, seat, -1, moves, Arrays.copyOf(moveNanos, moves));
+            }
+        }
+        return new GameResult(game, seats, -1, -1, moves, moveNanos);
+    }
+
+    private static GameResult forfeit(int game, List<Integer> seats, int seat, int moves, long[] moveNanos) {
+        int winner = seats.size() == 2 ? 1 - seat : -1;
+        return new GameResult(game, seats, winner, seat, moves, moveNanos);
+    }
+}
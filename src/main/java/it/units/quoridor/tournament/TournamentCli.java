@@ -0,0 +1,194 @@
+package it.units.quoridor.tournament;
+
+import it.units.quoridor.ai.AlphaBetaBot;
+import it.units.quoridor.ai.BookBot;
+import it.units.quoridor.ai.Bot;
+import it.units.quoridor.ai.GameSimulator;
+import it.units.quoridor.ai.MctsBot;
+import it.units.quoridor.ai.OpeningBook;
+import it.units.quoridor.ai.PathDifferenceEvaluator;
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.QuoridorEngine;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+import it.units.quoridor.logic.pathFinder.IndexedBfsPathFinder;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+import it.units.quoridor.logic.validation.WallPlacementValidator;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Headless tournament mode: {@code --tournament [--games=N] [--bots=a,b[,c,d]] [--time-ms=T]
+ * [--threads=P] [--max-moves=M] [--mcts-workers=W] [--csv=FILE] [--book=FILE]}.
+ *
+ * <p>Bots: {@code alphabeta}, {@code mcts}. With {@code --book}, every bot plays book moves
+ * (seen at least {@value #BOOK_MIN_VISITS} times) before searching. Prints a win-rate table and
+ * optionally writes one CSV row per game. Needs no display.
+ */
+public final class TournamentCli {
+
+    private static final Map<String, String> DEFAULTS = Map.of(
+            "games", "100",
+            "bots", "alphabeta,mcts",
+            "time-ms", "100",
+            "threads", String.valueOf(Runtime.getRuntime().availableProcessors()),
+            "max-moves", "300",
+            "mcts-workers", "1");
+
+    static final int BOOK_MIN_VISITS = 3;
+
+    private TournamentCli() {}
+
+    /** Runs the tournament described by {@code args}; returns the process exit code. */
+    public static int run(String[] args, PrintStream out) {
+        GameRules rules = new QuoridorGameRules();
+        Map<String, String> options;
+        Duration budget;
+        int mctsWorkers;
+        int maxMoves;
+        int games;
+        int threads;
+        List<Contestant> contestants = new ArrayList<>();
+        try {
+            options = parse(args);
+            budget = Duration.ofMillis(positive(options, "time-ms"));
+            mctsWorkers = positive(options, "mcts-workers");
+            maxMoves = positive(options, "max-moves");
+            games = positive(options, "games");
+            threads = positive(options, "threads");
+            for (String name : options.get("bots").split(",")) {
+                contestants.add(new Contestant(name, botFactory(name.trim(), rules, budget, mctsWorkers)));
+            }
+        } catch (IllegalArgumentException e) {
+            out.println(e.getMessage());
+            return 2;
+        }
+
+        if (options.containsKey("book")) {
+            OpeningBook book;
+            try {
+                book = OpeningBook.load(Path.of(options.get("book")));
+            } catch (IOException e) {
+                out.println("Could not read " + options.get("book") + ": " + e.getMessage());
+                return 1;
+            }
+            if (book.size() > 0) {
+                contestants.replaceAll(contestant -> new Contestant(contestant.name(),
+                        () -> new BookBot(book, contestant.factory().get(), rules, BOOK_MIN_VISITS)));
+            }
+        }
+
+        Tournament tournament;
+        try {
+            tournament = new Tournament(() -> newEngine(rules), contestants, maxMoves);
+        } catch (IllegalArgumentException e) {
+            out.println(e.getMessage());
+            return 2;
+        }
+
+        out.printf("Playing %d games of %s on %d threads, %d ms per move%n",
+                games, options.get("bots"), threads, budget.toMillis());
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        List<GameResult> results;
+        try {
+            results = tournament.run(games, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        out.print(new TournamentReport(contestants, results).format());
+
+        if (options.containsKey("csv")) {
+            try {
+                writeCsv(Path.of(options.get("csv")), contestants, results);
+            } catch (IOException e) {
+                out.println("Could not write " + options.get("csv") + ": " + e.getMessage());
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            if (arg.equals("--tournament")) continue;
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Unrecognized argument: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            if (!DEFAULTS.containsKey(key) && !key.equals("csv") && !key.equals("book")) {
+                throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+            options.put(key, arg.substring(arg.indexOf('=') + 1));
+        }
+        return options;
+    }
+
+    private static int positive(Map<String, String> options, String key) {
+        String value = options.get(key);
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) return parsed;
+        } catch (NumberFormatException e) {
+            // reported below, like any other bad value
+        }
+        throw new IllegalArgumentException("--" + key + " must be a positive integer, got " + value);
+    }
+
+    // Engines and bots each get their own validators: the indexed path finder is single-threaded
+    private static GameEngine newEngine(GameRules rules) {
+        return new QuoridorEngine(rules, new QuoridorPawnMoveValidator(),
+                new QuoridorWallPlacementValidator(rules, new IndexedBfsPathFinder()),
+                new QuoridorWinChecker(rules));
+    }
+
+    private static Supplier<Bot> botFactory(String name, GameRules rules, Duration budget, int mctsWorkers) {
+        return switch (name) {
+            case "alphabeta" -> () -> {
+                DistanceOracle distances = new BfsDistanceOracle(rules);
+                WallPlacementValidator walls =
+                        new QuoridorWallPlacementValidator(rules, new IndexedBfsPathFinder(), distances);
+                GameSimulator simulator = new GameSimulator(new QuoridorPawnMoveValidator(), walls,
+                        new QuoridorWinChecker(rules), distances);
+                return new AlphaBetaBot(simulator, new PathDifferenceEvaluator(distances), budget);
+            };
+            case "mcts" -> () -> new MctsBot(rules, budget, mctsWorkers);
+            default -> throw new IllegalArgumentException("Unknown bot: " + name);
+        };
+    }
+
+    private static void writeCsv(Path file, List<Contestant> contestants, List<GameResult> results)
+            throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("game,seats,winner,forfeit,moves,total_ms");
+            for (GameResult result : results) {
+                String seats = result.seats().stream()
+                        .map(i -> contestants.get(i).name())
+                        .collect(Collectors.joining("|"));
+                long totalNanos = 0;
+                for (long nanos : result.moveNanos()) totalNanos += nanos;
+                writer.printf("%d,%s,%s,%s,%d,%d%n", result.game(), seats,
+                        result.winner() < 0 ? "" : contestants.get(result.winner()).name(),
+                        result.forfeiter() < 0 ? "" : contestants.get(result.forfeiter()).name(),
+                        result.moves(), totalNanos / 1_000_000);
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package it.units.quoridor.tournament;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Per-contestant summary of a tournament: win rate with a 95% Wilson score interval,
+ * forfeits, draws and move timings.
+ */
+public final class TournamentReport {
+
+    private static final double Z_95 = 1.959964;
+
+    private final List<Contestant> contestants;
+    private final List<GameResult> results;
+
+    public TournamentReport(List<Contestant> contestants, List<GameResult> results) {
+        this.contestants = List.copyOf(contestants);
+        this.results = List.copyOf(results);
+    }
+
+    public List<Line> lines() {
+        int count = contestants.size();
+        int[] games = new int[count];
+        int[] wins = new int[count];
+        int[] draws = new int[count];
+        int[] forfeits = new int[count];
+        long[] moveCount = new long[count];
+        long[] moveNanos = new long[count];
+        long[] maxMoveNanos = new long[count];
+
+        for (GameResult result : results) {
+            // a contestant entered twice counts each seat as its own game
+            for (int contestant : result.seats()) {
+                games[contestant]++;
+                if (result.isDraw()) draws[contestant]++;
+            }
+            if (result.winner() >= 0) wins[result.winner()]++;
+            if (result.forfeiter() >= 0) forfeits[result.forfeiter()]++;
+            for (int ply = 0; ply < result.moves(); ply++) {
+                int mover = result.moverAt(ply);
+                long nanos = result.moveNanos()[ply];
+                moveCount[mover]++;
+                moveNanos[mover] += nanos;
+                maxMoveNanos[mover] = Math.max(maxMoveNanos[mover], nanos);
+            }
+        }
+
+        Line[] lines = new Line[count];
+        for (int i = 0; i < count; i++) {
+            double[] interval = wilsonInterval(wins[i], games[i]);
+            lines[i] = new Line(contestants.get(i).name(), games[i], wins[i], draws[i], forfeits[i],
+                    games[i] == 0 ? 0.0 : (double) wins[i] / games[i], interval[0], interval[1],
+                    moveCount[i] == 0 ? 0.0 : moveNanos[i] / 1e6 / moveCount[i], maxMoveNanos[i] / 1e6);
+        }
+        return List.of(lines);
+    }
+
+    /** Mean number of moves per game. */
+    public double averageGameLength() {
+        return results.stream().mapToInt(GameResult::moves).average().orElse(0.0);
+    }
+
+    /** Human-readable table, one row per contestant. */
+    public String format() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%d games, %.1f moves per game on average%n",
+                results.size(), averageGameLength()));
+        out.append(String.format(Locale.ROOT, "%-16s %6s %6s %6s %6s %8s %17s %10s %10s%n",
+                "bot", "games", "wins", "draws", "forf.", "win %", "95% CI", "avg ms", "max ms"));
+        for (Line line : lines()) {
+            out.append(String.format(Locale.ROOT, "%-16s %6d %6d %6d %6d %7.1f%% [%5.1f%%, %5.1f%%] %10.2f %10.2f%n",
+                    line.name(), line.games(), line.wins(), line.draws(), line.forfeits(),
+                    100 * line.winRate(), 100 * line.winRateLow(), 100 * line.winRateHigh(),
+                    line.averageMoveMillis(), line.maxMoveMillis()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * 95% Wilson score interval for a binomial proportion; unlike the normal approximation it
+     * stays inside [0, 1] and behaves for rates near 0 or 1 and small samples.
+     */
+    static double[] wilsonInterval(int successes, int trials) {
+        if (trials == 0) return new double[] {0.0, 1.0};
+        double p = (double) successes / trials;
+        double z2 = Z_95 * Z_95;
+        double denominator = 1 + z2 / trials;
+        double center = (p + z2 / (2.0 * trials)) / denominator;
+        double half = Z_95 * Math.sqrt(p * (1 - p) / trials + z2 / (4.0 * trials * trials)) / denominator;
+        return new double[] {Math.max(0.0, center - half), Math.min(1.0, center + half)};
+    }
+
+    public record Line(String name, int games, int wins, int draws, int forfeits,
+                       double winRate, double winRateLow, double winRateHigh,
+                       double averageMoveMillis, double maxMoveMillis) {
+    }
+}
@@ -381,7 +381,7 @@ public class BoardPanel extends JPanel {
                 }
             }
         } else {
-            return HoverResult.ofCell(new Position(cellRow, cellCol));
+            return HoverResult.ofCell(Position.of(cellRow, cellCol));
         }
 
         return HoverResult.none();
@@ -73,6 +73,11 @@ public interface GameView {
      */
     void setUndoEnabled(boolean enabled);
 
+    /**
+     * Enable or disable the redo button.
+     */
+    void setRedoEnabled(boolean enabled);
+
     // === Event Registration ===
 
     /**
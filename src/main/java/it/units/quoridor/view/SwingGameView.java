@@ -23,6 +23,7 @@ public class SwingGameView extends JFrame implements GameView {
     private BoardPanel boardPanel;
     private PlayerInfoPanel playerInfoPanel;
     private JButton undoButton;
+    private JButton redoButton;
     private JButton newGameButton;
     private JLabel messageLabel;
     private JPanel overlay;
@@ -64,6 +65,18 @@ public class SwingGameView extends JFrame implements GameView {
             }
         });
 
+        redoButton = new JButton("Redo");
+        redoButton.setEnabled(false);
+        redoButton.addActionListener(e -> {
+            if (listener != null) {
+                listener.onRedo();
+            }
+        });
+
+        // Home / End jump to the start / end of the game
+        bindKey("HOME", "firstPly", () -> listener.onGoToPly(0));
+        bindKey("END", "lastPly", () -> listener.onGoToPly(Integer.MAX_VALUE));
+
         newGameButton = new JButton("New Game");
         newGameButton.addActionListener(e -> showWelcomeScreen());
 
@@ -118,6 +131,7 @@ public class SwingGameView extends JFrame implements GameView {
         // Buttons on right
         JPanel buttonPanel = new JPanel(new FlowLayout(FlowLayout.RIGHT));
         buttonPanel.add(undoButton);
+        buttonPanel.add(redoButton);
         buttonPanel.add(newGameButton);
         controlPanel.add(buttonPanel, BorderLayout.EAST);
 
@@ -179,12 +193,30 @@ public class SwingGameView extends JFrame implements GameView {
         undoButton.setEnabled(enabled);
     }
 
+    @Override
+    public void setRedoEnabled(boolean enabled) {
+        redoButton.setEnabled(enabled);
+    }
+
     @Override
     public void setListener(ViewListener listener) {
         this.listener = listener;
         boardPanel.setViewListener(listener);
     }
 
+    private void bindKey(String keyStroke, String name, Runnable action) {
+        JRootPane root = getRootPane();
+        root.getInputMap(JComponent.WHEN_IN_FOCUSED_WINDOW).put(KeyStroke.getKeyStroke(keyStroke), name);
+        root.getActionMap().put(name, new AbstractAction() {
+            @Override
+            public void actionPerformed(java.awt.event.ActionEvent e) {
+                if (listener != null) {
+                    action.run();
+                }
+            }
+        });
+    }
+
     // === Overlay System ===
 
     /**
@@ -52,6 +52,18 @@ public interface ViewListener {
      */
     void onUndo();
 
+    /**
+     * Called when user clicks the redo button.
+     */
+    void onRedo();
+
+    /**
+     * Called when user jumps to a ply of the game (Home / End keys).
+     *
+     * @param ply moves from the start of the game; values past the last move mean the last one
+     */
+    void onGoToPly(int ply);
+
     /**
      * Called when user quits the game.
      */
@@ -1,8 +1,21 @@
 package it.units.quoridor;
 
 import it.units.quoridor.domain.*;
-
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.QuoridorEngine;
+import it.units.quoridor.logic.pathFinder.BfsPathFinder;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * Shared test constants and factory methods to reduce boilerplate.
@@ -67,4 +80,40 @@ public final class TestFixtures {
     public static Wall vWall(int row, int col) {
         return new Wall(new WallPosition(row, col), WallOrientation.VERTICAL);
     }
+
+    // ── Random games ─────────────────────────────────────────
+
+    /** An engine with the standard rules and validators. */
+    public static QuoridorEngine newEngine() {
+        GameRules rules = new QuoridorGameRules();
+        return new QuoridorEngine(rules, new QuoridorPawnMoveValidator(),
+                new QuoridorWallPlacementValidator(rules, new BfsPathFinder()), new QuoridorWinChecker(rules));
+    }
+
+    /**
+     * Plays one random legal move: a wall one time in three, otherwise a pawn move. Destinations
+     * are sorted first, so the game only depends on the seed.
+     */
+    public static void playRandomMove(GameEngine engine, Random random) {
+        PlayerId player = engine.gameState().currentPlayerId();
+        List<Wall> walls = new ArrayList<>(engine.legalWallsForPlayer(player));
+        if (!walls.isEmpty() && random.nextInt(3) == 0) {
+            assertTrue(engine.placeWall(player, walls.get(random.nextInt(walls.size()))).isValid());
+        } else {
+            List<Position> steps = new ArrayList<>(engine.legalPawnDestinationsForPlayer(player));
+            steps.sort(Comparator.comparingInt(Position::index));
+            assertTrue(engine.movePawn(player, steps.get(random.nextInt(steps.size()))).isValid());
+        }
+    }
+
+    /** Plays a seeded random game of at most {@code maxMoves} moves; returns the state before each move. */
+    public static List<GameState> playRandomGame(GameEngine engine, long seed, int maxMoves) {
+        Random random = new Random(seed);
+        List<GameState> before = new ArrayList<>();
+        while (!engine.isGameOver() && before.size() < maxMoves) {
+            before.add(engine.gameState());
+            playRandomMove(engine, random);
+        }
+        return before;
+    }
 }
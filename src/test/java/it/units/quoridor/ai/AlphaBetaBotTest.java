@@ -0,0 +1,112 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.PawnMove;
+import it.units.quoridor.engine.moves.WallMove;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.BfsPathFinder;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaBetaBotTest {
+
+    private final GameRules rules = new QuoridorGameRules();
+    private final DistanceOracle distances = new BfsDistanceOracle(rules);
+    private final GameSimulator simulator = new GameSimulator(new QuoridorPawnMoveValidator(),
+            new QuoridorWallPlacementValidator(rules, new BfsPathFinder(), distances),
+            new QuoridorWinChecker(rules), distances);
+
+    private AlphaBetaBot bot(long millis) {
+        return new AlphaBetaBot(simulator, new PathDifferenceEvaluator(distances), Duration.ofMillis(millis));
+    }
+
+    @Test
+    void takesImmediateWin() {
+        GameState state = stateWith(standardBoard().withPlayerAt(PlayerId.PLAYER_1, new Position(7, 2)));
+
+        assertEquals(new PawnMove(PlayerId.PLAYER_1, new Position(8, 2)), bot(200).chooseMove(state));
+    }
+
+    @Test
+    void blocksOpponentAboutToWin() {
+        // P2 is one step from row 0 and moves next; P1 is far from its goal and must wall
+        Board board = standardBoard()
+                .withPlayerAt(PlayerId.PLAYER_1, new Position(0, 8))
+                .withPlayerAt(PlayerId.PLAYER_2, new Position(1, 0));
+        GameState state = stateWith(board);
+
+        Move move = bot(300).chooseMove(state);
+
+        assertInstanceOf(WallMove.class, move);
+        Board after = board.addWall(((WallMove) move).wall());
+        assertTrue(distances.distanceToGoal(after, PlayerId.PLAYER_2) > 1);
+    }
+
+    @Test
+    void respectsTimeBudget() {
+        AlphaBetaBot bot = bot(100);
+
+        long start = System.nanoTime();
+        Move move = bot.chooseMove(standardState());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertNotNull(move);
+        assertTrue(elapsedMillis < 1_000, "took " + elapsedMillis + " ms");
+        assertTrue(bot.completedDepth() >= 1);
+    }
+
+    @Test
+    void playsLegalMoveInFourPlayerGame() {
+        GameState state = fourPlayerState();
+
+        Move move = bot(100).chooseMove(state);
+
+        assertEquals(PlayerId.PLAYER_1, move.playerId());
+        assertTrue(simulator.pawnMoves(state).contains(move) || simulator.wallMoves(state).contains(move));
+    }
+
+    @Test
+    void opponentWithoutMovesIsNotAForcedResult() {
+        // P2 in the corner: P3 beside it with P4 behind, a wall overhead, and no walls left
+        Board board = fourPlayerBoard()
+                .withPlayerAt(PlayerId.PLAYER_2, new Position(8, 0))
+                .withPlayerAt(PlayerId.PLAYER_3, new Position(8, 1))
+                .withPlayerAt(PlayerId.PLAYER_4, new Position(8, 2))
+                .addWall(hWall(7, 0));
+        GameState state = new GameState(board, List.of(P1, new Player(PlayerId.PLAYER_2, "P2", 0), P3, P4));
+        GameState boxedIn = simulator.play(state, new PawnMove(PlayerId.PLAYER_1, new Position(1, 4)));
+        assertTrue(simulator.pawnMoves(boxedIn).isEmpty());
+        assertTrue(simulator.wallMoves(boxedIn).isEmpty());
+
+        AlphaBetaBot bot = bot(300);
+        Move move = bot.chooseMove(state);
+
+        assertEquals(PlayerId.PLAYER_1, move.playerId());
+        assertTrue(bot.completedDepth() > 2, "stopped at depth " + bot.completedDepth());
+    }
+
+    @Test
+    void rejectsFinishedGame() {
+        GameState state = standardState().withGameFinished(PlayerId.PLAYER_2);
+
+        assertThrows(IllegalStateException.class, () -> bot(100).chooseMove(state));
+    }
+
+    @Test
+    void rejectsNonPositiveBudget() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AlphaBetaBot(simulator, new PathDifferenceEvaluator(distances), Duration.ZERO));
+    }
+}
@@ -0,0 +1,95 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.PawnMove;
+import it.units.quoridor.engine.moves.WallMove;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.BfsPathFinder;
+import it.units.quoridor.logic.pathFinder.DistanceOracle;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+import it.units.quoridor.logic.validation.WallPlacementValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    private final GameRules rules = new QuoridorGameRules();
+    private final DistanceOracle distances = new BfsDistanceOracle(rules);
+    private final WallPlacementValidator wallValidator =
+            new QuoridorWallPlacementValidator(rules, new BfsPathFinder(), distances);
+    private final GameSimulator simulator = new GameSimulator(
+            new QuoridorPawnMoveValidator(), wallValidator, new QuoridorWinChecker(rules), distances);
+
+    @Test
+    void pawnMoves_fromStart() {
+        Set<Move> moves = new HashSet<>(simulator.pawnMoves(standardState()));
+
+        assertEquals(Set.of(
+                new PawnMove(PlayerId.PLAYER_1, new Position(1, 4)),
+                new PawnMove(PlayerId.PLAYER_1, new Position(0, 3)),
+                new PawnMove(PlayerId.PLAYER_1, new Position(0, 5))), moves);
+    }
+
+    @Test
+    void wallMoves_includeEveryWallThatLengthensAnOpponentPath() {
+        GameState state = stateWith(standardBoard().addWall(hWall(6, 3)).addWall(vWall(2, 5)));
+        Set<Move> generated = new HashSet<>(simulator.wallMoves(state));
+        int before = distances.distanceToGoal(state.board(), PlayerId.PLAYER_2);
+
+        for (Wall wall : wallValidator.legalWalls(state, PlayerId.PLAYER_1)) {
+            int after = distances.distanceToGoal(state.board().addWall(wall), PlayerId.PLAYER_2);
+            if (after > before) {
+                assertTrue(generated.contains(new WallMove(PlayerId.PLAYER_1, wall)), wall.toString());
+            }
+        }
+        for (Move move : generated) {
+            assertTrue(wallValidator.canPlaceWall(state, PlayerId.PLAYER_1, ((WallMove) move).wall()));
+        }
+    }
+
+    @Test
+    void wallMoves_emptyWithoutWallsLeft() {
+        GameState state = standardState().withUpdatedPlayer(P1.withWallsRemaining(0));
+
+        assertEquals(List.of(), simulator.wallMoves(state));
+    }
+
+    @Test
+    void play_pawnMovePassesTurn() {
+        GameState after = simulator.play(standardState(), new PawnMove(PlayerId.PLAYER_1, new Position(1, 4)));
+
+        assertEquals(new Position(1, 4), after.playerPosition(PlayerId.PLAYER_1));
+        assertEquals(PlayerId.PLAYER_2, after.currentPlayerId());
+        assertFalse(after.isGameOver());
+    }
+
+    @Test
+    void play_wallMoveUsesWall() {
+        GameState after = simulator.play(standardState(), new WallMove(PlayerId.PLAYER_1, hWall(4, 4)));
+
+        assertTrue(after.board().hasWall(hWall(4, 4)));
+        assertEquals(9, after.player(PlayerId.PLAYER_1).wallsRemaining());
+        assertEquals(PlayerId.PLAYER_2, after.currentPlayerId());
+    }
+
+    @Test
+    void play_reachingGoalFinishesGame() {
+        GameState state = stateWith(standardBoard().withPlayerAt(PlayerId.PLAYER_1, new Position(7, 0)));
+
+        GameState after = simulator.play(state, new PawnMove(PlayerId.PLAYER_1, new Position(8, 0)));
+
+        assertTrue(after.isGameOver());
+        assertEquals(PlayerId.PLAYER_1, after.winner());
+    }
+}
@@ -0,0 +1,88 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.moves.PawnMove;
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MctsBotTest {
+
+    private final GameRules rules = new QuoridorGameRules();
+
+    private MctsBot bot(int workers, long playouts) {
+        return new MctsBot(rules, Duration.ofSeconds(20), workers, playouts, 7);
+    }
+
+    @Test
+    void takesImmediateWin() {
+        GameState state = stateWith(standardBoard()
+                .withPlayerAt(PlayerId.PLAYER_1, new Position(7, 2))
+                .withPlayerAt(PlayerId.PLAYER_2, new Position(4, 6)));
+
+        assertEquals(new PawnMove(PlayerId.PLAYER_1, new Position(8, 2)), bot(1, 2_000).chooseMove(state));
+    }
+
+    @Test
+    void parallelWorkersShareThePlayoutBudget() {
+        MctsBot bot = bot(4, 1_000);
+
+        Move move = bot.chooseMove(standardState());
+
+        assertEquals(PlayerId.PLAYER_1, move.playerId());
+        assertTrue(bot.lastPlayouts() >= 1_000);
+    }
+
+    @Test
+    void playsLegalMovesInFourPlayerGame() {
+        GameState state = fourPlayerState();
+        SearchBoard board = SearchBoard.from(state, rules);
+        int[] legal = new int[SearchBoard.MAX_MOVES];
+        int count = board.legalMoves(legal);
+
+        int chosen = MoveCodec.encode(bot(2, 500).chooseMove(state));
+
+        boolean found = false;
+        for (int i = 0; i < count; i++) found |= legal[i] == chosen;
+        assertTrue(found);
+    }
+
+    @Test
+    void stopsAtTimeBudget() {
+        MctsBot bot = new MctsBot(rules, Duration.ofMillis(100), 2);
+
+        long start = System.nanoTime();
+        bot.chooseMove(standardState());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1_000, "took " + elapsedMillis + " ms");
+        assertTrue(bot.lastPlayouts() > 0);
+    }
+
+    @Test
+    void searchesAgainAfterClose() {
+        MctsBot bot = bot(2, 500);
+        bot.chooseMove(standardState());
+
+        bot.close();
+        bot.close();
+
+        assertEquals(PlayerId.PLAYER_1, bot.chooseMove(standardState()).playerId());
+        assertTrue(bot.lastPlayouts() >= 500);
+        bot.close();
+    }
+
+    @Test
+    void rejectsBadConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsBot(rules, Duration.ZERO, 1));
+        assertThrows(IllegalArgumentException.class, () -> new MctsBot(rules, Duration.ofSeconds(1), 0));
+    }
+}
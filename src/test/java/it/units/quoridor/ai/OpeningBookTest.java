@@ -0,0 +1,163 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.Player;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.PlayerCount;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.record.GameArchive;
+import it.units.quoridor.record.GameArchiveWriter;
+import it.units.quoridor.record.GameRecord;
+import it.units.quoridor.record.MoveNotation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static it.units.quoridor.TestFixtures.standardState;
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTest {
+
+    private static final GameRules RULES = new QuoridorGameRules();
+
+    // Player 1 walks straight to row 9 while player 2 shuffles: player 1 wins in 15 plies
+    private static final String RACE = "e2 e8 e3 e7 e4 d7 e5 e7 e6 d7 e7 e8 e8 d8 e9";
+
+    @TempDir
+    Path dir;
+
+    private static GameRecord game(String moves) {
+        String[] tokens = moves.split(" ");
+        int[] codes = new int[tokens.length];
+        for (int i = 0; i < tokens.length; i++) {
+            codes[i] = MoveNotation.parse(tokens[i]);
+        }
+        return GameRecord.of(PlayerCount.TWO_PLAYERS, codes);
+    }
+
+    private OpeningBook build(int maxPly, int minVisits, String... games) throws IOException {
+        Path file = dir.resolve("games.qra");
+        try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+            for (String moves : games) {
+                writer.write(game(moves));
+            }
+        }
+        try (GameArchive archive = GameArchive.open(file, RULES)) {
+            return new OpeningBookBuilder(maxPly).add(archive).build(minVisits);
+        }
+    }
+
+    private static long keyAfter(String moves) {
+        SearchBoard board = SearchBoard.from(standardState(), RULES);
+        for (String move : moves.split(" ")) {
+            board.make(MoveNotation.parse(move));
+        }
+        return board.zobristKey();
+    }
+
+    @Test
+    void collectsVisitsWinsAndLengthsPerMove() throws IOException {
+        OpeningBook book = build(4, 1, RACE, RACE, "e2 e8 d2 e7", "d1 e8");
+        long start = standardState().zobristKey();
+
+        List<OpeningBook.BookMove> moves = book.moves(start);
+        assertEquals(2, moves.size());
+        OpeningBook.BookMove e2 = moves.stream().filter(m -> m.move() == MoveNotation.parse("e2")).findFirst().orElseThrow();
+        assertEquals(3, e2.visits());
+        assertEquals(2, e2.wins());
+        assertEquals((15 + 15 + 4) / 3f, e2.averageLength(), 1e-4);
+
+        assertEquals(MoveNotation.parse("e2"), book.bestMove(start, 1));
+        assertEquals(MoveCodec.NONE, book.bestMove(start, 4));
+        assertEquals(MoveNotation.parse("e8"), book.bestMove(keyAfter("e2"), 1));
+        assertFalse(book.contains(keyAfter("e2 e8 e3 e7 e4")));  // beyond maxPly
+    }
+
+    @Test
+    void minVisitsPrunesRareMoves() throws IOException {
+        OpeningBook book = build(2, 2, RACE, RACE, "d1 e8");
+
+        assertEquals(List.of(MoveNotation.parse("e2")),
+                book.moves(standardState().zobristKey()).stream().map(OpeningBook.BookMove::move).toList());
+        assertEquals(2, book.size());
+    }
+
+    @Test
+    void savedBookLoadsIdentically() throws IOException {
+        OpeningBook book = build(6, 1, RACE, "e2 e8 d2 e7", "d1 e8 d2");
+        Path file = dir.resolve("book.qob");
+        book.save(file);
+
+        OpeningBook loaded = OpeningBook.load(file);
+
+        assertEquals(book.size(), loaded.size());
+        for (String line : new String[] {"e2", "e2 e8", "e2 e8 e3", "d1", "d1 e8"}) {
+            assertEquals(book.moves(keyAfter(line)), loaded.moves(keyAfter(line)));
+        }
+        assertEquals(book.moves(standardState().zobristKey()), loaded.moves(standardState().zobristKey()));
+    }
+
+    @Test
+    void loadRejectsOtherFiles() throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 0, 0, 0, 0});
+
+        assertThrows(IOException.class, () -> OpeningBook.load(file));
+    }
+
+    @Test
+    void bookBotPlaysBookMoveThenSearches() throws IOException {
+        OpeningBook book = build(2, 1, RACE);
+        Move searched = MoveCodec.decode(PlayerId.PLAYER_1, MoveNotation.parse("d1"));
+        Bot bot = new BookBot(book, state -> searched, RULES, 1);
+        GameState start = standardState();
+
+        assertEquals(MoveCodec.decode(PlayerId.PLAYER_1, MoveNotation.parse("e2")), bot.chooseMove(start));
+        assertSame(searched, bot.chooseMove(start.withNextTurn()));
+    }
+
+    @Test
+    void bookBotSearchesWhenTheBookMoveIsIllegal() {
+        // As after a key collision: a two-square step and a wall with none left
+        GameState start = standardState();
+        GameState noWalls = new GameState(start.board(),
+                List.of(new Player(PlayerId.PLAYER_1, "P1", 0), start.players().get(1)));
+        Move searched = MoveCodec.decode(PlayerId.PLAYER_1, MoveNotation.parse("d1"));
+        OpeningBook stepTooFar = new OpeningBook(new long[] {start.zobristKey()},
+                new byte[] {(byte) MoveNotation.parse("e3")}, new int[] {5}, new int[] {5}, new float[] {20});
+        OpeningBook wall = new OpeningBook(new long[] {noWalls.zobristKey()},
+                new byte[] {(byte) MoveNotation.parse("e3h")}, new int[] {5}, new int[] {5}, new float[] {20});
+
+        assertSame(searched, new BookBot(stepTooFar, state -> searched, RULES, 1).chooseMove(start));
+        assertSame(searched, new BookBot(wall, state -> searched, RULES, 1).chooseMove(noWalls));
+    }
+
+    @Test
+    void closingBookBotClosesItsFallback() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Bot fallback = new Bot() {
+            @Override
+            public Move chooseMove(GameState state) {
+                throw new AssertionError("not searched");
+            }
+
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        new BookBot(OpeningBook.EMPTY, fallback, RULES, 1).close();
+
+        assertTrue(closed.get());
+    }
+}
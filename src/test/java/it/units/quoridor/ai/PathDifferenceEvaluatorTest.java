@@ -0,0 +1,43 @@
+package it.units.quoridor.ai;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import org.junit.jupiter.api.Test;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathDifferenceEvaluatorTest {
+
+    private final Evaluator evaluator = new PathDifferenceEvaluator(new BfsDistanceOracle(new QuoridorGameRules()));
+
+    @Test
+    void symmetricStartIsEven() {
+        assertEquals(0, evaluator.evaluate(standardState(), PlayerId.PLAYER_1));
+        assertEquals(0, evaluator.evaluate(standardState(), PlayerId.PLAYER_2));
+    }
+
+    @Test
+    void closerPlayerScoresHigher() {
+        GameState state = stateWith(standardBoard().withPlayerAt(PlayerId.PLAYER_1, new Position(3, 4)));
+
+        assertTrue(evaluator.evaluate(state, PlayerId.PLAYER_1) > 0);
+        assertTrue(evaluator.evaluate(state, PlayerId.PLAYER_2) < 0);
+    }
+
+    @Test
+    void wallsInHandBreakTies() {
+        GameState state = standardState().withUpdatedPlayer(P2.withWallsRemaining(9));
+
+        assertTrue(evaluator.evaluate(state, PlayerId.PLAYER_1) > 0);
+    }
+
+    @Test
+    void fourPlayersComparesAgainstClosestOpponent() {
+        GameState state = fourPlayerState()
+                .withBoard(fourPlayerBoard().withPlayerAt(PlayerId.PLAYER_3, new Position(4, 7)));
+
+        assertTrue(evaluator.evaluate(state, PlayerId.PLAYER_1) < 0);
+    }
+}
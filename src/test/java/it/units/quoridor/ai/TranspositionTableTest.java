@@ -0,0 +1,122 @@
+package it.units.quoridor.ai;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void capacityRoundedUpToPowerOfTwo() {
+        assertEquals(2, new TranspositionTable(1).capacity());
+        assertEquals(1024, new TranspositionTable(1000).capacity());
+        assertEquals(1024, new TranspositionTable(1024).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+
+    @Test
+    void storedEntryRoundTrips() {
+        TranspositionTable table = new TranspositionTable(64);
+
+        table.store(0x1234_5678_9ABC_DEF0L, 7, TranspositionTable.LOWER_BOUND, -42, 200);
+        long entry = table.probe(0x1234_5678_9ABC_DEF0L);
+
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(-42, TranspositionTable.score(entry));
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.LOWER_BOUND, TranspositionTable.bound(entry));
+        assertEquals(200, TranspositionTable.move(entry));
+    }
+
+    @Test
+    void unknownKeyMisses() {
+        TranspositionTable table = new TranspositionTable(64);
+
+        assertEquals(TranspositionTable.MISS, table.probe(99L));
+    }
+
+    @Test
+    void deeperEntrySurvivesShallowerStoreOfSamePosition() {
+        TranspositionTable table = new TranspositionTable(64);
+        table.store(5L, 6, TranspositionTable.EXACT, 10, TranspositionTable.NO_MOVE);
+
+        table.store(5L, 2, TranspositionTable.EXACT, 99, TranspositionTable.NO_MOVE);
+
+        assertEquals(10, TranspositionTable.score(table.probe(5L)));
+    }
+
+    @Test
+    void fullBucketEvictsShallowestEntry() {
+        TranspositionTable table = new TranspositionTable(2);   // a single bucket
+        table.store(1L, 5, TranspositionTable.EXACT, 1, TranspositionTable.NO_MOVE);
+        table.store(2L, 3, TranspositionTable.EXACT, 2, TranspositionTable.NO_MOVE);
+
+        table.store(3L, 4, TranspositionTable.EXACT, 3, TranspositionTable.NO_MOVE);
+
+        assertNotEquals(TranspositionTable.MISS, table.probe(1L));
+        assertEquals(TranspositionTable.MISS, table.probe(2L));
+        assertNotEquals(TranspositionTable.MISS, table.probe(3L));
+    }
+
+    @Test
+    void oldSearchEntriesAreEvictedFirst() {
+        TranspositionTable table = new TranspositionTable(2);
+        table.store(1L, 9, TranspositionTable.EXACT, 1, TranspositionTable.NO_MOVE);
+        table.newSearch();
+        table.store(2L, 1, TranspositionTable.EXACT, 2, TranspositionTable.NO_MOVE);
+
+        table.store(3L, 1, TranspositionTable.EXACT, 3, TranspositionTable.NO_MOVE);
+
+        assertEquals(TranspositionTable.MISS, table.probe(1L));
+        assertNotEquals(TranspositionTable.MISS, table.probe(2L));
+    }
+
+    @Test
+    void countersTrackHitsAndCollisions() {
+        TranspositionTable table = new TranspositionTable(2);
+        table.store(1L, 1, TranspositionTable.EXACT, 0, TranspositionTable.NO_MOVE);
+
+        table.probe(1L);
+        table.probe(2L);
+
+        TranspositionTable.Stats stats = table.stats();
+        assertEquals(2, stats.probes());
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.collisions());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void concurrentWritersNeverProduceCorruptHits() throws InterruptedException {
+        TranspositionTable table = new TranspositionTable(256);
+        AtomicInteger corruptHits = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long seed = t;
+            threads.add(new Thread(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 200_000; i++) {
+                    long key = random.nextLong(1, 5_000);
+                    // Every writer stores a value derived from the key, so any hit can be checked
+                    table.store(key, (int) (key % 50), TranspositionTable.EXACT, (int) key * 3, (int) key & 0xFFF);
+                    long probed = random.nextLong(1, 5_000);
+                    long entry = table.probe(probed);
+                    if (entry != TranspositionTable.MISS
+                            && (TranspositionTable.score(entry) != (int) probed * 3
+                                || TranspositionTable.move(entry) != ((int) probed & 0xFFF))) {
+                        corruptHits.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.start();
+        for (Thread thread : threads) thread.join();
+
+        assertEquals(0, corruptHits.get());
+    }
+}
@@ -1,9 +1,17 @@
 package it.units.quoridor.controller;
 
+import it.units.quoridor.ai.Bot;
 import it.units.quoridor.domain.*;
 import it.units.quoridor.engine.GameEngine;
 import it.units.quoridor.engine.MoveResult;
+import it.units.quoridor.engine.QuoridorEngine;
+import it.units.quoridor.engine.moves.PawnMove;
+import it.units.quoridor.logic.pathFinder.BfsPathFinder;
 import it.units.quoridor.logic.rules.PlayerCount;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
 import it.units.quoridor.view.BoardViewModel;
 import it.units.quoridor.view.GameView;
 import it.units.quoridor.view.PlayerViewModel;
@@ -358,6 +366,62 @@ class ControllerTest {
         verify(gameView, never()).renderBoard(any());
     }
 
+    @Test
+    void onRedoWithUndoneMoveShouldRestoreStateAndShowMessage() {
+        // Arrange
+        GameState gameState = mock(GameState.class);
+        Board board = mock(Board.class);
+
+        when(gameEngine.gameState()).thenReturn(gameState);
+        when(gameState.board()).thenReturn(board);
+        when(gameState.players()).thenReturn(List.of());
+        when(board.walls()).thenReturn(Collections.emptySet());
+        when(gameEngine.redo()).thenReturn(true);  // Redo successful
+
+        // Act
+        controller.onRedo();
+
+        // Assert
+        verify(gameEngine).redo();
+        verify(gameView).renderBoard(any(BoardViewModel.class));
+        verify(gameView).showMessage("Move redone");
+    }
+
+    @Test
+    void onRedoWithoutUndoneMoveShouldShowMessage() {
+        // Arrange
+        when(gameEngine.redo()).thenReturn(false);  // Nothing to redo
+
+        // Act
+        controller.onRedo();
+
+        // Assert
+        verify(gameEngine).redo();
+        verify(gameView).showMessage("Nothing to redo");
+        verify(gameView, never()).renderBoard(any());
+    }
+
+    @Test
+    void onGoToPlyPastTheEndShouldJumpToLastPly() {
+        // Arrange
+        GameState gameState = mock(GameState.class);
+        Board board = mock(Board.class);
+
+        when(gameEngine.gameState()).thenReturn(gameState);
+        when(gameState.board()).thenReturn(board);
+        when(gameState.players()).thenReturn(List.of());
+        when(board.walls()).thenReturn(Collections.emptySet());
+        when(gameEngine.lastPly()).thenReturn(12);
+        when(gameEngine.goToPly(12)).thenReturn(true);
+
+        // Act
+        controller.onGoToPly(Integer.MAX_VALUE);
+
+        // Assert
+        verify(gameEngine).goToPly(12);
+        verify(gameView).renderBoard(any(BoardViewModel.class));
+    }
+
     @Test
     void updateHighlightTest() {
 
@@ -386,4 +450,76 @@ class ControllerTest {
         assertEquals(1, movesToView.size());
     }
 
+    // Bots: executors run tasks inline so the bot's reply is played before the click returns
+
+    private static QuoridorEngine realEngine() {
+        QuoridorGameRules rules = new QuoridorGameRules();
+        return new QuoridorEngine(rules, new QuoridorPawnMoveValidator(),
+                new QuoridorWallPlacementValidator(rules, new BfsPathFinder()),
+                new QuoridorWinChecker(rules));
+    }
+
+    @Test
+    void botRepliesThroughTheEngineAfterHumanMove() {
+        QuoridorEngine engine = realEngine();
+        Controller botController = new Controller(engine, gameView, Runnable::run, Runnable::run);
+        botController.setBot(PlayerId.PLAYER_2, state -> new PawnMove(PlayerId.PLAYER_2, new Position(7, 4)));
+
+        botController.onCellClicked(7, 4);   // view row 7 = domain row 1
+
+        assertEquals(new Position(1, 4), engine.gameState().playerPosition(PlayerId.PLAYER_1));
+        assertEquals(new Position(7, 4), engine.gameState().playerPosition(PlayerId.PLAYER_2));
+        assertEquals(PlayerId.PLAYER_1, engine.gameState().currentPlayerId());
+    }
+
+    @Test
+    void undoTakesBackBotReply() {
+        QuoridorEngine engine = realEngine();
+        Controller botController = new Controller(engine, gameView, Runnable::run, Runnable::run);
+        botController.setBot(PlayerId.PLAYER_2, state -> new PawnMove(PlayerId.PLAYER_2, new Position(7, 4)));
+        botController.onCellClicked(7, 4);
+
+        botController.onUndo();
+
+        assertEquals(new Position(0, 4), engine.gameState().playerPosition(PlayerId.PLAYER_1));
+        assertEquals(new Position(8, 4), engine.gameState().playerPosition(PlayerId.PLAYER_2));
+        assertEquals(PlayerId.PLAYER_1, engine.gameState().currentPlayerId());
+    }
+
+    @Test
+    void clicksIgnoredWhileBotIsToMove() {
+        QuoridorEngine engine = realEngine();
+        Controller botController = new Controller(engine, gameView, task -> { }, Runnable::run);
+        botController.setBot(PlayerId.PLAYER_1, state -> new PawnMove(PlayerId.PLAYER_1, new Position(1, 4)));
+
+        botController.onCellClicked(7, 4);
+
+        verify(gameView).showError("Wait for the computer to move");
+        assertEquals(new Position(0, 4), engine.gameState().playerPosition(PlayerId.PLAYER_1));
+    }
+
+    @Test
+    void replacedBotIsClosed() {
+        Controller botController = new Controller(realEngine(), gameView, task -> { }, Runnable::run);
+        Bot first = mock(Bot.class);
+        botController.setBot(PlayerId.PLAYER_2, first);
+
+        botController.setBot(PlayerId.PLAYER_2, mock(Bot.class));
+
+        verify(first).close();
+    }
+
+    @Test
+    void newGameClosesBotsWithoutASeat() {
+        Controller botController = new Controller(realEngine(), gameView, task -> { }, Runnable::run);
+        Bot seated = mock(Bot.class);
+        Bot unseated = mock(Bot.class);
+        botController.setBot(PlayerId.PLAYER_2, seated);
+        botController.setBot(PlayerId.PLAYER_3, unseated);
+
+        botController.onNewGame(2, List.of("Player 1", "Player 2"));
+
+        verify(unseated).close();
+        verify(seated, never()).close();
+    }
 }
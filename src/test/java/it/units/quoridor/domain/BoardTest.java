@@ -2,6 +2,8 @@ package it.units.quoridor.domain;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import static it.units.quoridor.TestFixtures.*;
@@ -105,4 +107,156 @@ class BoardTest {
         // Empty board has no blocked edges
         assertFalse(board.isEdgeBlocked(new Position(3, 4), Direction.NORTH));
     }
-}
\ No newline at end of file
+
+    @Test
+    void wallMaskHasOneBitPerWallAnchor() {
+        Board board = new Board()
+                .addWall(hWall(0, 0))
+                .addWall(hWall(7, 7))
+                .addWall(vWall(3, 4));
+
+        assertEquals((1L << 0) | (1L << 63), board.wallMask(WallOrientation.HORIZONTAL));
+        assertEquals(1L << (3 * 8 + 4), board.wallMask(WallOrientation.VERTICAL));
+        assertTrue(board.hasWall(vWall(3, 4)));
+        assertFalse(board.hasWall(hWall(3, 4)));
+    }
+
+    @Test
+    void isEdgeBlockedMatchesWallBlockedEdges() {
+        Wall horizontal = hWall(7, 7);
+        Wall vertical = vWall(0, 0);
+        Board board = new Board().addWall(horizontal).addWall(vertical);
+
+        for (BlockedEdge edge : horizontal.blockedEdges()) {
+            assertTrue(board.isEdgeBlocked(edge.position(), edge.direction()));
+        }
+        for (BlockedEdge edge : vertical.blockedEdges()) {
+            assertTrue(board.isEdgeBlocked(edge.position(), edge.direction()));
+        }
+        assertFalse(board.isEdgeBlocked(new Position(8, 8), Direction.WEST));
+    }
+
+    @Test
+    void isOccupiedTracksPlayerPositionsAcrossWholeGrid() {
+        Board board = new Board()
+                .withPlayerAt(PlayerId.PLAYER_1, new Position(0, 0))
+                .withPlayerAt(PlayerId.PLAYER_2, new Position(8, 8));
+
+        assertTrue(board.isOccupied(new Position(0, 0)));
+        assertTrue(board.isOccupied(new Position(8, 8)));
+        assertFalse(board.isOccupied(new Position(4, 4)));
+
+        Board moved = board.withPlayerAt(PlayerId.PLAYER_2, new Position(7, 8));
+        assertFalse(moved.isOccupied(new Position(8, 8)));
+        assertTrue(moved.isOccupied(new Position(7, 8)));
+    }
+
+    @Test
+    void occupantAtFollowsMovedPawns() {
+        Board board = fourPlayerBoard();
+        Board moved = board.withPlayerAt(PlayerId.PLAYER_3, new Position(4, 1)).addWall(hWall(2, 2));
+
+        assertEquals(Optional.of(PlayerId.PLAYER_3), board.occupantAt(P3_START));
+        assertEquals(Optional.empty(), moved.occupantAt(P3_START));
+        assertEquals(Optional.of(PlayerId.PLAYER_3), moved.occupantAt(new Position(4, 1)));
+        assertEquals(Optional.of(PlayerId.PLAYER_4), moved.occupantAt(P4_START));
+        assertSame(board.occupantAt(P4_START), moved.occupantAt(P4_START));
+    }
+
+    @Test
+    void playerOnCellUsesCellIndex() {
+        Board board = standardBoard();
+
+        assertEquals(PlayerId.PLAYER_2, board.playerOnCell(P2_START.index()));
+        assertNull(board.playerOnCell(new Position(4, 4).index()));
+        assertTrue(board.isOccupied(P1_START.index()));
+    }
+
+    @Test
+    void boardsWithSameWallsAndPawnsAreEqual() {
+        Board a = standardBoard().addWall(hWall(1, 1)).addWall(vWall(5, 2));
+        Board b = standardBoard().addWall(vWall(5, 2)).addWall(hWall(1, 1));
+
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, b.addWall(hWall(6, 6)));
+    }
+
+    @Test
+    void wallsViewReflectsWallsAddedIncrementally() {
+        Board board = new Board().addWall(hWall(2, 3)).addWall(vWall(6, 0));
+
+        assertEquals(Set.of(hWall(2, 3), vWall(6, 0)), board.walls());
+        assertThrows(UnsupportedOperationException.class, () -> board.walls().add(hWall(0, 0)));
+    }
+
+    @Test
+    void addWallLeavesOriginalBlockedEdgesUntouched() {
+        Board before = new Board().addWall(hWall(3, 4));
+        Board after = before.addWall(vWall(1, 1));
+
+        assertFalse(before.isEdgeBlocked(new Position(1, 1), Direction.EAST));
+        assertTrue(after.isEdgeBlocked(new Position(1, 1), Direction.EAST));
+        assertTrue(after.isEdgeBlocked(new Position(3, 4), Direction.NORTH));
+        assertEquals(new Board(Set.of(hWall(3, 4), vWall(1, 1)), Map.of()), after);
+    }
+
+    @Test
+    void zobristKeyMaintainedIncrementallyMatchesRebuiltBoard() {
+        Board incremental = standardBoard()
+                .addWall(hWall(2, 3))
+                .withPlayerAt(PlayerId.PLAYER_1, new Position(1, 4))
+                .addWall(vWall(5, 5))
+                .withPlayerAt(PlayerId.PLAYER_2, new Position(7, 4));
+        Board rebuilt = new Board(Set.of(vWall(5, 5), hWall(2, 3)), Map.of(
+                PlayerId.PLAYER_1, new Position(1, 4),
+                PlayerId.PLAYER_2, new Position(7, 4)));
+
+        assertEquals(rebuilt.zobristKey(), incremental.zobristKey());
+    }
+
+    @Test
+    void zobristKeyDistinguishesWallsAndPawns() {
+        Board board = standardBoard();
+
+        assertNotEquals(board.zobristKey(), board.addWall(hWall(2, 3)).zobristKey());
+        assertNotEquals(board.addWall(hWall(2, 3)).zobristKey(), board.addWall(vWall(2, 3)).zobristKey());
+        assertNotEquals(board.zobristKey(),
+                board.withPlayerAt(PlayerId.PLAYER_1, new Position(1, 4)).zobristKey());
+    }
+
+    @Test
+    void zobristKeyRestoredWhenPawnMovesBack() {
+        Board board = standardBoard();
+        Board back = board.withPlayerAt(PlayerId.PLAYER_1, new Position(1, 4))
+                .withPlayerAt(PlayerId.PLAYER_1, P1_START);
+
+        assertEquals(board.zobristKey(), back.zobristKey());
+    }
+
+    @Test
+    void addingExistingWallKeepsBoard() {
+        Board board = standardBoard().addWall(hWall(2, 3));
+
+        assertEquals(board.zobristKey(), board.addWall(hWall(2, 3)).zobristKey());
+        assertEquals(board, board.addWall(hWall(2, 3)));
+    }
+
+    @Test
+    void removeWallRestoresBoardAndEdges() {
+        Board board = standardBoard().addWall(vWall(5, 5));
+        Board removed = board.addWall(hWall(2, 3)).removeWall(hWall(2, 3));
+
+        assertEquals(board, removed);
+        assertEquals(board.zobristKey(), removed.zobristKey());
+        assertFalse(removed.isEdgeBlocked(new Position(2, 3), Direction.NORTH));
+        assertTrue(removed.isEdgeBlocked(new Position(5, 5), Direction.EAST));
+    }
+
+    @Test
+    void removingAbsentWallKeepsBoard() {
+        Board board = standardBoard().addWall(hWall(2, 3));
+
+        assertSame(board, board.removeWall(vWall(2, 3)));
+    }
+}
@@ -31,4 +31,18 @@ class DirectionTest {
         assertEquals(-1, Direction.WEST.colDelta());
     }
 
-}
\ No newline at end of file
+    @Test
+    void fromUnitDeltaFindsEachDirection() {
+        for (Direction direction : Direction.values()) {
+            assertEquals(direction, Direction.fromUnitDelta(direction.rowDelta(), direction.colDelta()).orElseThrow());
+        }
+    }
+
+    @Test
+    void fromUnitDeltaRejectsOtherDeltas() {
+        assertTrue(Direction.fromUnitDelta(0, 0).isEmpty());
+        assertTrue(Direction.fromUnitDelta(1, 1).isEmpty());
+        assertTrue(Direction.fromUnitDelta(2, 0).isEmpty());
+        assertTrue(Direction.fromUnitDelta(0, -5).isEmpty());
+    }
+}
@@ -314,4 +314,39 @@ class GameStateTest {
         assertEquals(9, newState.currentPlayerWallsRemaining());
         assertEquals(9, newState.player(PlayerId.PLAYER_1).wallsRemaining());
     }
+
+    @Test
+    void zobristKeyConsistentWithEquals() {
+        GameState viaMoves = standardState()
+                .withWallPlaced(PlayerId.PLAYER_1, hWall(3, 3)).withNextTurn()
+                .withPawnMovedTo(PlayerId.PLAYER_2, new Position(7, 4)).withNextTurn();
+        GameState direct = new GameState(
+                standardBoard().addWall(hWall(3, 3)).withPlayerAt(PlayerId.PLAYER_2, new Position(7, 4)),
+                List.of(P1.withWallsRemaining(9), P2));
+
+        assertEquals(direct, viaMoves);
+        assertEquals(direct.zobristKey(), viaMoves.zobristKey());
+        assertEquals(direct.hashCode(), viaMoves.hashCode());
+    }
+
+    @Test
+    void zobristKeyCoversSideToMoveAndWallsInHand() {
+        GameState state = standardState();
+
+        assertNotEquals(state.zobristKey(), state.withNextTurn().zobristKey());
+        assertNotEquals(state.zobristKey(),
+                state.withUpdatedPlayer(P1.withWallsRemaining(9)).zobristKey());
+    }
+
+    @Test
+    void zobristKeyDetectsRepetition() {
+        GameState start = standardState();
+        GameState repeated = start
+                .withPawnMovedTo(PlayerId.PLAYER_1, new Position(1, 4)).withNextTurn()
+                .withPawnMovedTo(PlayerId.PLAYER_2, new Position(7, 4)).withNextTurn()
+                .withPawnMovedTo(PlayerId.PLAYER_1, P1_START).withNextTurn()
+                .withPawnMovedTo(PlayerId.PLAYER_2, P2_START).withNextTurn();
+
+        assertEquals(start.zobristKey(), repeated.zobristKey());
+    }
 }
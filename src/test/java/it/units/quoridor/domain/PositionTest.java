@@ -126,4 +126,63 @@ class PositionTest {
         assertThrows(IllegalArgumentException.class, () -> leftEdge.move(Direction.WEST));
     }
 
+    // ============================================================
+    // Cell index tests
+    // ============================================================
+
+    @Test
+    void indexCountsRowsFromBottomLeft() {
+        assertEquals(0, new Position(0, 0).index());
+        assertEquals(13, new Position(1, 4).index());
+        assertEquals(80, new Position(8, 8).index());
+    }
+
+    @Test
+    void ofIndexReturnsSharedEqualPosition() {
+        Position position = Position.ofIndex(13);
+
+        assertEquals(new Position(1, 4), position);
+        assertSame(position, Position.ofIndex(13));
+    }
+
+    @Test
+    void ofIndexOutsideBoardThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Position.ofIndex(-1));
+        assertThrows(IllegalArgumentException.class, () -> Position.ofIndex(Position.CELL_COUNT));
+    }
+
+    @Test
+    void neighbourTableMatchesTryMoveForEveryCell() {
+        for (int cell = 0; cell < Position.CELL_COUNT; cell++) {
+            Position position = Position.ofIndex(cell);
+            for (Direction direction : Direction.values()) {
+                int neighbour = Position.neighbour(cell, direction);
+                assertEquals(position.tryMove(direction).map(Position::index).orElse(Position.OFF_BOARD), neighbour);
+            }
+        }
+    }
+
+    @Test
+    void neighbourOffBoardIsSentinel() {
+        assertEquals(Position.OFF_BOARD, Position.neighbour(new Position(8, 4).index(), Direction.NORTH));
+        assertEquals(Position.OFF_BOARD, Position.neighbour(new Position(4, 0).index(), Direction.WEST));
+        assertEquals(new Position(5, 4).index(), Position.neighbour(new Position(4, 4).index(), Direction.NORTH));
+    }
+
+    @Test
+    void tryMoveOffBoardIsEmpty() {
+        assertTrue(new Position(0, 4).tryMove(Direction.SOUTH).isEmpty());
+        assertEquals(new Position(0, 5), new Position(0, 4).tryMove(Direction.EAST).orElseThrow());
+    }
+
+    @Test
+    void ofReturnsSharedInstance() {
+        assertSame(Position.of(2, 7), Position.of(2, 7));
+        assertSame(Position.of(2, 7), new Position(2, 7).move(Direction.EAST).move(Direction.WEST));
+    }
+
+    @Test
+    void ofOutsideBoardThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> Position.of(9, 0));
+    }
 }
@@ -47,4 +47,18 @@ class WallPositionTest {
         assertNotEquals(new WallPosition(4, 4), new WallPosition(3, 4));
     }
 
-}
\ No newline at end of file
+    @Test
+    void ofReturnsSharedInstance() {
+        WallPosition position = WallPosition.of(4, 5);
+
+        assertEquals(new WallPosition(4, 5), position);
+        assertSame(position, WallPosition.of(4, 5));
+        assertSame(position, WallPosition.ofIndex(position.index()));
+    }
+
+    @Test
+    void ofOutsideGridThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> WallPosition.of(8, 0));
+        assertThrows(IllegalArgumentException.class, () -> WallPosition.ofIndex(WallPosition.SLOT_COUNT));
+    }
+}
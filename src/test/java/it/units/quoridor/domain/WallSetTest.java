@@ -0,0 +1,39 @@
+package it.units.quoridor.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WallSetTest {
+
+    @Test
+    void containsWallsWhoseBitsAreSet() {
+        WallSet walls = new WallSet(1L << (2 * 8 + 3), 1L << 63);
+
+        assertTrue(walls.contains(hWall(2, 3)));
+        assertTrue(walls.contains(vWall(7, 7)));
+        assertFalse(walls.contains(vWall(2, 3)));
+        assertEquals(2, walls.size());
+    }
+
+    @Test
+    void iteratesEveryWallOnce() {
+        WallSet walls = new WallSet(0b101L, 0b10L);
+
+        assertEquals(Set.of(hWall(0, 0), hWall(0, 2), vWall(0, 1)), new HashSet<>(walls));
+    }
+
+    @Test
+    void equalsAnySetWithSameWalls() {
+        WallSet walls = new WallSet(1L, 0L);
+
+        assertEquals(Set.of(hWall(0, 0)), walls);
+        assertEquals(walls, Set.of(hWall(0, 0)));
+        assertEquals(Set.of(hWall(0, 0)).hashCode(), walls.hashCode());
+        assertTrue(WallSet.EMPTY.isEmpty());
+    }
+}
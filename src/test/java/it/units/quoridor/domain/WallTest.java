@@ -61,5 +61,20 @@ class WallTest {
         assertTrue(blockedEdges.contains(new BlockedEdge(new Position(4, 5), Direction.WEST)));
     }
 
+    @Test
+    void ofReturnsSharedInstanceEqualToConstructedWall() {
+        Wall wall = Wall.of(WallPosition.of(3, 4), WallOrientation.VERTICAL);
+
+        assertEquals(new Wall(new WallPosition(3, 4), WallOrientation.VERTICAL), wall);
+        assertSame(wall, Wall.of(WallOrientation.VERTICAL, 3 * 8 + 4));
+    }
 
-}
\ No newline at end of file
+    @Test
+    void blockedEdgesAreSharedAndUnmodifiable() {
+        Wall wall = new Wall(new WallPosition(3, 4), WallOrientation.HORIZONTAL);
+
+        assertSame(wall.blockedEdges(), Wall.of(WallPosition.of(3, 4), WallOrientation.HORIZONTAL).blockedEdges());
+        assertThrows(UnsupportedOperationException.class,
+                () -> wall.blockedEdges().add(new BlockedEdge(new Position(0, 0), Direction.NORTH)));
+    }
+}
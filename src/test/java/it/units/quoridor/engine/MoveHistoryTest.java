@@ -0,0 +1,146 @@
+package it.units.quoridor.engine;
+
+import it.units.quoridor.domain.GameState;
+import org.junit.jupiter.api.Test;
+
+import static it.units.quoridor.TestFixtures.standardState;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveHistoryTest {
+
+    private static final GameState START = standardState();
+
+    // Keyframes are not inspected by these tests, so replaying just carries the state along
+    private static MoveHistory history(int capacity, int keyframeInterval) {
+        MoveHistory history = new MoveHistory(capacity, keyframeInterval, (state, delta) -> state);
+        history.reset(START);
+        return history;
+    }
+
+    private static void pushAll(MoveHistory history, int... moves) {
+        for (int move : moves) {
+            history.push(MoveHistory.delta(move, 0, 0, false), START);
+        }
+    }
+
+    @Test
+    void deltaPacksEveryField() {
+        int delta = MoveHistory.delta(255, 3, 80, true);
+
+        assertEquals(255, MoveHistory.move(delta));
+        assertEquals(3, MoveHistory.seat(delta));
+        assertEquals(80, MoveHistory.previousCell(delta));
+        assertTrue(MoveHistory.isNoOp(delta));
+        assertFalse(MoveHistory.isNoOp(MoveHistory.delta(130, 1, 4, false)));
+    }
+
+    @Test
+    void backReturnsDeltasLastInFirstOut() {
+        MoveHistory history = history(1000, 0);
+        for (int i = 0; i < 200; i++) {
+            pushAll(history, i % 81);
+        }
+
+        assertEquals(200, history.size());
+        for (int i = 199; i >= 0; i--) {
+            assertEquals(i % 81, MoveHistory.move(history.back()));
+        }
+        assertFalse(history.canUndo());
+        assertThrows(IllegalStateException.class, history::back);
+    }
+
+    @Test
+    void forwardReplaysUndoneMoves() {
+        MoveHistory history = history(100, 0);
+        pushAll(history, 13, 67, 22);
+        history.back();
+        history.back();
+
+        assertEquals(1, history.currentPly());
+        assertEquals(3, history.lastPly());
+        assertEquals(67, MoveHistory.move(history.forward()));
+        assertEquals(22, MoveHistory.move(history.forward()));
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    void newMoveStartsVariationAndKeepsOldOne() {
+        MoveHistory history = history(100, 0);
+        pushAll(history, 13, 67, 22);
+        history.back();
+        history.back();
+        pushAll(history, 58);
+
+        assertEquals(2, history.lastPly());
+        assertFalse(history.canRedo());
+
+        history.back();
+        assertArrayEquals(new int[] {58, 67}, history.branches());
+        assertEquals(67, MoveHistory.move(history.forward(67)));
+        assertEquals(3, history.lastPly());
+        assertEquals(22, MoveHistory.move(history.forward()));
+        assertEquals(MoveHistory.NONE, history.forward(40));
+    }
+
+    @Test
+    void replayingKnownMoveFollowsExistingVariation() {
+        MoveHistory history = history(100, 0);
+        pushAll(history, 13, 67);
+        history.back();
+        history.back();
+        pushAll(history, 13);
+
+        assertEquals(2, history.size());
+        assertEquals(2, history.lastPly());
+    }
+
+    @Test
+    void capacityDropsOldestMoves() {
+        MoveHistory history = history(5, 0);
+        for (int i = 0; i < 12; i++) {
+            pushAll(history, i);
+        }
+
+        assertEquals(5, history.size());
+        assertEquals(7, history.firstPly());
+        for (int i = 11; i >= 7; i--) {
+            assertEquals(i, MoveHistory.move(history.back()));
+        }
+        assertFalse(history.canUndo());
+        assertSame(START, history.keyframe());
+    }
+
+    @Test
+    void capacityAtRootDropsContinuations() {
+        MoveHistory history = history(2, 0);
+        pushAll(history, 13, 22);
+        history.back();
+        history.back();
+        pushAll(history, 5);
+
+        assertEquals(1, history.size());
+        assertEquals(5, MoveHistory.move(history.back()));
+        assertArrayEquals(new int[] {5}, history.branches());
+    }
+
+    @Test
+    void keyframesKeptEveryIntervalFromGameStart() {
+        MoveHistory history = history(100, 4);
+        pushAll(history, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+        assertEquals(8, history.keyframePly(9));
+        assertEquals(4, history.keyframePly(7));
+        assertEquals(0, history.keyframePly(3));
+        assertSame(START, history.jumpToKeyframe(4));
+        assertEquals(4, history.currentPly());
+
+        history.back();
+        assertNull(history.keyframe());
+    }
+
+    @Test
+    void invalidLimitsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new MoveHistory(0, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> new MoveHistory(10, -1, null));
+    }
+}
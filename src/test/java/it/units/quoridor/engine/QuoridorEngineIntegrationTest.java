@@ -1,6 +1,8 @@
 package it.units.quoridor.engine;
+
 import it.units.quoridor.domain.*;
 import it.units.quoridor.domain.GameState;
+import it.units.quoridor.engine.moves.MoveCodec;
 import it.units.quoridor.logic.pathFinder.BfsPathFinder;
 import it.units.quoridor.logic.pathFinder.PathFinder;
 import it.units.quoridor.logic.rules.GameRules;
@@ -18,9 +20,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static it.units.quoridor.TestFixtures.hWall;
+import static it.units.quoridor.TestFixtures.playRandomGame;
 import static it.units.quoridor.TestFixtures.vWall;
 import static it.units.quoridor.TestFixtures.stateWith;
 import static org.junit.jupiter.api.Assertions.*;
@@ -396,4 +402,149 @@ public class QuoridorEngineIntegrationTest {
         assertTrue(destA.contains(new Position(2, 4)));
     }
 
+    // legal walls shrink by the placed wall, its overlaps and its crossing
+    @Test
+    void legalWallsForPlayer_excludesOverlapsAndCrossings() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+        assertEquals(128, engine.legalWallsForPlayer(PlayerId.PLAYER_1).size());
+
+        engine.placeWall(PlayerId.PLAYER_1, hWall(4, 4));
+        WallSet legal = engine.legalWallsForPlayer(PlayerId.PLAYER_2);
+
+        assertFalse(legal.contains(hWall(4, 4)));
+        assertFalse(legal.contains(hWall(4, 3)));
+        assertFalse(legal.contains(hWall(4, 5)));
+        assertFalse(legal.contains(vWall(4, 4)));
+        assertTrue(legal.contains(vWall(4, 3)));
+        assertEquals(124, legal.size());
+    }
+
+    @Test
+    void playMove_appliesEncodedPawnMovesAndWalls() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+
+        assertTrue(engine.playMove(PlayerId.PLAYER_1, MoveCodec.pawn(new Position(1, 4))).isValid());
+        assertTrue(engine.playMove(PlayerId.PLAYER_2, MoveCodec.wall(hWall(4, 4))).isValid());
+
+        GameState state = engine.gameState();
+        assertEquals(new Position(1, 4), state.playerPosition(PlayerId.PLAYER_1));
+        assertTrue(state.board().hasWall(hWall(4, 4)));
+        assertEquals(PlayerId.PLAYER_1, state.currentPlayerId());
+    }
+
+    @Test
+    void playMove_rejectsIllegalAndMalformedCodes() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+
+        assertFalse(engine.playMove(PlayerId.PLAYER_1, MoveCodec.pawn(new Position(5, 5))).isValid());
+        assertFalse(engine.playMove(PlayerId.PLAYER_1, 100).isValid());
+        assertFalse(engine.playMove(PlayerId.PLAYER_1, MoveCodec.NONE).isValid());
+        assertEquals(new Position(0, 4), engine.gameState().playerPosition(PlayerId.PLAYER_1));
+    }
+
+    @Test
+    void undo_replaysWholeGameBackwards() {
+        for (int keyframeInterval : new int[] {0, 7}) {
+            QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+            engine.setHistoryLimits(1000, keyframeInterval);
+
+            List<GameState> before = playRandomGame(engine, 42, 1000);
+            for (int i = before.size() - 1; i >= 0; i--) {
+                assertTrue(engine.undo());
+                assertEquals(before.get(i), engine.gameState());
+                assertEquals(before.get(i).zobristKey(), engine.gameState().zobristKey());
+            }
+            assertFalse(engine.undo());
+        }
+    }
+
+    @Test
+    void undo_afterWinReopensGame() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+        engine.setStateForTesting(stateWith(new Board(Set.of(), Map.of(
+                PlayerId.PLAYER_1, new Position(7, 4),
+                PlayerId.PLAYER_2, new Position(3, 3)))));
+        GameState start = engine.gameState();
+
+        assertTrue(engine.movePawn(PlayerId.PLAYER_1, new Position(8, 4)).isWin());
+        assertTrue(engine.undo());
+
+        assertEquals(start, engine.gameState());
+        assertFalse(engine.isGameOver());
+    }
+
+    @Test
+    void undo_historyCapDropsOldestMoves() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+        engine.setHistoryLimits(3, 0);
+
+        List<GameState> before = playRandomGame(engine, 7, 5);
+        for (int i = 0; i < 3; i++) {
+            assertTrue(engine.undo());
+        }
+
+        assertEquals(before.get(2), engine.gameState());
+        assertFalse(engine.undo());
+    }
+
+    @Test
+    void redo_replaysUndoneMovesToTheSameStates() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+        engine.setHistoryLimits(1000, 5);
+        List<GameState> before = playRandomGame(engine, 3, 1000);
+        GameState end = engine.gameState();
+        while (engine.undo()) { }
+
+        for (int i = 1; i < before.size(); i++) {
+            assertTrue(engine.redo());
+            assertEquals(before.get(i), engine.gameState());
+        }
+        assertTrue(engine.redo());
+        assertEquals(end, engine.gameState());
+        assertFalse(engine.redo());
+    }
+
+    @Test
+    void goToPly_reachesEveryPlyOfTheLine() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+        engine.setHistoryLimits(1000, 8);
+        List<GameState> before = playRandomGame(engine, 11, 60);
+        Random random = new Random(5);
+
+        for (int i = 0; i < 100; i++) {
+            int ply = random.nextInt(before.size());
+            assertTrue(engine.goToPly(ply));
+            assertEquals(ply, engine.currentPly());
+            assertEquals(before.get(ply), engine.gameState());
+        }
+        assertEquals(before.size(), engine.lastPly());
+        assertFalse(engine.goToPly(before.size() + 1));
+        assertFalse(engine.goToPly(-1));
+    }
+
+    @Test
+    void switchBranch_returnsToEarlierVariation() {
+        QuoridorEngine engine = new QuoridorEngine(rules, pawnValidator, wallValidator, winChecker);
+        int mainLine = MoveCodec.pawn(new Position(1, 4));
+        int variation = MoveCodec.pawn(new Position(0, 3));
+
+        engine.playMove(PlayerId.PLAYER_1, mainLine);
+        engine.playMove(PlayerId.PLAYER_2, MoveCodec.pawn(new Position(7, 4)));
+        GameState mainLineEnd = engine.gameState();
+        engine.goToPly(0);
+        engine.playMove(PlayerId.PLAYER_1, variation);
+        GameState variationEnd = engine.gameState();
+
+        assertTrue(engine.undo());
+        assertArrayEquals(new int[] {variation, mainLine}, engine.branches());
+        assertTrue(engine.switchBranch(mainLine));
+        assertEquals(2, engine.lastPly());
+        assertTrue(engine.redo());
+        assertEquals(mainLineEnd, engine.gameState());
+
+        assertTrue(engine.goToPly(0));
+        assertTrue(engine.switchBranch(variation));
+        assertEquals(variationEnd, engine.gameState());
+        assertFalse(engine.switchBranch(MoveCodec.wall(hWall(4, 4))));
+    }
 }
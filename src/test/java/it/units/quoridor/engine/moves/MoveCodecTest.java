@@ -0,0 +1,77 @@
+package it.units.quoridor.engine.moves;
+
+import it.units.quoridor.domain.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveCodecTest {
+
+    @Test
+    void pawnCodesAreCellIndices() {
+        assertEquals(0, MoveCodec.pawn(new Position(0, 0)));
+        assertEquals(4, MoveCodec.pawn(new Position(0, 4)));
+        assertEquals(80, MoveCodec.pawn(new Position(8, 8)));
+        assertFalse(MoveCodec.isWall(80));
+    }
+
+    @Test
+    void wallCodesFitInAnUnsignedByte() {
+        assertEquals(128, MoveCodec.wall(vWall(0, 0)));
+        assertEquals(128 + 64 + 63, MoveCodec.wall(hWall(7, 7)));
+        assertTrue(MoveCodec.isWall(MoveCodec.wall(hWall(3, 5))));
+    }
+
+    @Test
+    void everyMoveRoundTripsToADistinctCode() {
+        Set<Integer> codes = new HashSet<>();
+        for (int row = 0; row <= Position.MAX_COORDINATE; row++) {
+            for (int col = 0; col <= Position.MAX_COORDINATE; col++) {
+                Position position = new Position(row, col);
+                int code = MoveCodec.pawn(position);
+                assertEquals(position, MoveCodec.destination(code));
+                assertTrue(MoveCodec.isValid(code));
+                assertTrue(codes.add(code));
+            }
+        }
+        for (int row = 0; row <= WallPosition.MAX_COORDINATE; row++) {
+            for (int col = 0; col <= WallPosition.MAX_COORDINATE; col++) {
+                for (Wall wall : new Wall[] {hWall(row, col), vWall(row, col)}) {
+                    int code = MoveCodec.wall(wall);
+                    assertEquals(wall, MoveCodec.wallOf(code));
+                    assertTrue(MoveCodec.isValid(code));
+                    assertTrue(codes.add(code));
+                    assertTrue(code <= 0xFF);
+                }
+            }
+        }
+        assertEquals(81 + 128, codes.size());
+    }
+
+    @Test
+    void encodeDecodeMoves() {
+        Move pawn = new PawnMove(PlayerId.PLAYER_2, new Position(7, 4));
+        Move wall = new WallMove(PlayerId.PLAYER_1, vWall(2, 6));
+
+        assertEquals(pawn, MoveCodec.decode(PlayerId.PLAYER_2, MoveCodec.encode(pawn)));
+        assertEquals(wall, MoveCodec.decode(PlayerId.PLAYER_1, MoveCodec.encode(wall)));
+    }
+
+    @Test
+    void decodingReusesInstances() {
+        assertSame(MoveCodec.destination(40), MoveCodec.destination(40));
+        assertSame(MoveCodec.wallOf(200), MoveCodec.wallOf(200));
+    }
+
+    @Test
+    void invalidCodes() {
+        assertFalse(MoveCodec.isValid(MoveCodec.NONE));
+        assertFalse(MoveCodec.isValid(81));
+        assertFalse(MoveCodec.isValid(127));
+        assertFalse(MoveCodec.isValid(256));
+    }
+}
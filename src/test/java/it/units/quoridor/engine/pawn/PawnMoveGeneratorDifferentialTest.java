@@ -0,0 +1,91 @@
+package it.units.quoridor.engine.pawn;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.engine.moves.PawnMoveGenerator;
+import it.units.quoridor.logic.validation.PawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+// The direct generator must agree with the validator on every cell, for crowded random boards
+class PawnMoveGeneratorDifferentialTest {
+
+    private final PawnMoveValidator validator = new QuoridorPawnMoveValidator();
+    private final PawnMoveGenerator generator = new PawnMoveGenerator(validator);
+
+    @Test
+    void matchesValidatorOnRandomPositions() {
+        Random random = new Random(2024);
+        for (int round = 0; round < 2_000; round++) {
+            GameState state = randomState(random);
+            for (Player player : state.players()) {
+                Set<Position> expected = new HashSet<>();
+                for (int cell = 0; cell < Position.CELL_COUNT; cell++) {
+                    if (validator.canMovePawn(state, player.id(), Position.ofIndex(cell))) {
+                        expected.add(Position.ofIndex(cell));
+                    }
+                }
+
+                assertEquals(expected, generator.legalDestinations(state, player.id()),
+                        "destinations of " + player.id() + " on " + state.board().playerPositions()
+                                + " with " + state.board().walls());
+            }
+        }
+    }
+
+    @Test
+    void bufferHoldsEachDestinationOnce() {
+        // P1 boxed in the corner of three pawns: both jumps blocked, sidesteps overlap
+        Board board = new Board()
+                .withPlayerAt(PlayerId.PLAYER_1, new Position(4, 4))
+                .withPlayerAt(PlayerId.PLAYER_2, new Position(5, 4))
+                .withPlayerAt(PlayerId.PLAYER_3, new Position(4, 5))
+                .withPlayerAt(PlayerId.PLAYER_4, new Position(6, 4))
+                .addWall(vWall(3, 5));
+        GameState state = fourPlayerState().withBoard(board);
+        int[] cells = new int[PawnMoveGenerator.MAX_DESTINATIONS];
+
+        int count = generator.legalDestinations(state, PlayerId.PLAYER_1, cells);
+
+        Set<Integer> distinct = new HashSet<>();
+        for (int i = 0; i < count; i++) distinct.add(cells[i]);
+        assertEquals(count, distinct.size());
+        assertEquals(generator.legalDestinations(state, PlayerId.PLAYER_1).size(), count);
+    }
+
+    // 2 or 4 pawns packed into a 4x4 area so jumps and sidesteps are common, plus random walls
+    private static GameState randomState(Random random) {
+        boolean four = random.nextBoolean();
+        List<PlayerId> ids = four ? List.of(PlayerId.values()) : List.of(PlayerId.PLAYER_1, PlayerId.PLAYER_2);
+        int originRow = random.nextInt(6);
+        int originCol = random.nextInt(6);
+
+        Board board = new Board();
+        Set<Position> taken = new HashSet<>();
+        for (PlayerId id : ids) {
+            Position position;
+            do {
+                position = new Position(originRow + random.nextInt(4), originCol + random.nextInt(4));
+            } while (!taken.add(position));
+            board = board.withPlayerAt(id, position);
+        }
+
+        int walls = random.nextInt(12);
+        for (int i = 0; i < walls; i++) {
+            WallOrientation orientation = random.nextBoolean() ? WallOrientation.HORIZONTAL : WallOrientation.VERTICAL;
+            board = board.addWall(new Wall(new WallPosition(random.nextInt(8), random.nextInt(8)), orientation));
+        }
+
+        List<Player> players = new ArrayList<>();
+        for (PlayerId id : ids) players.add(new Player(id, id.name(), 0));
+        return new GameState(board, players);
+    }
+}
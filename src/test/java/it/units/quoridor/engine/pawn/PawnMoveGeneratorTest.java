@@ -34,6 +34,23 @@ public class PawnMoveGeneratorTest {
     }
 
 
+    @Test
+    void everyCandidate_whenValidatorAcceptsAll() {
+        PawnMoveValidator mockValidator = mock(PawnMoveValidator.class);
+        when(mockValidator.canMovePawn(any(GameState.class), any(PlayerId.class), any(Position.class)))
+                .thenReturn(true);
+
+        PawnMoveGenerator generator = new PawnMoveGenerator(mockValidator);
+
+        GameState centred = stateWith(standardBoard().withPlayerAt(PlayerId.PLAYER_1, new Position(4, 4)));
+
+        // 4 steps, 4 straight jumps and 4 diagonals
+        Set<Position> result = generator.legalDestinations(centred, PlayerId.PLAYER_1);
+
+        assertEquals(12, result.size());
+        assertEquals(PawnMoveGenerator.MAX_DESTINATIONS, result.size());
+    }
+
     // integration tests: generator + real validator
     private final PawnMoveValidator validator = new QuoridorPawnMoveValidator();
     private final PawnMoveGenerator generator = new PawnMoveGenerator(validator);
@@ -0,0 +1,188 @@
+package it.units.quoridor.engine.search;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.moves.PawnMoveGenerator;
+import it.units.quoridor.logic.pathFinder.BfsPathFinder;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.rules.WinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+import it.units.quoridor.logic.validation.WallPlacementValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchBoardTest {
+
+    private final GameRules rules = new QuoridorGameRules();
+    private final PawnMoveGenerator pawnMoves = new PawnMoveGenerator(new QuoridorPawnMoveValidator());
+    private final WallPlacementValidator wallValidator =
+            new QuoridorWallPlacementValidator(rules, new BfsPathFinder());
+    private final WinChecker winChecker = new QuoridorWinChecker(rules);
+
+    @Test
+    void roundTripsGameState() {
+        GameState state = stateWith(standardBoard().addWall(hWall(3, 3)).addWall(vWall(5, 0)))
+                .withUpdatedPlayer(P1.withWallsRemaining(8))
+                .withNextTurn();
+
+        SearchBoard board = SearchBoard.from(state, rules);
+
+        assertEquals(state, board.toGameState());
+        assertEquals(state.zobristKey(), board.zobristKey());
+        assertEquals(PlayerId.PLAYER_2, board.currentPlayer());
+    }
+
+    @Test
+    void copyFromRestoresPositionInPlace() {
+        SearchBoard start = SearchBoard.from(standardState(), rules);
+        SearchBoard board = start.copy();
+        board.make(MoveCodec.pawn(new Position(1, 4)));
+        board.make(MoveCodec.wall(hWall(3, 3)));
+
+        board.copyFrom(start);
+
+        assertEquals(standardState(), board.toGameState());
+        assertEquals(start.zobristKey(), board.zobristKey());
+        assertThrows(IllegalArgumentException.class, () -> board.copyFrom(SearchBoard.from(fourPlayerState(), rules)));
+    }
+
+    @Test
+    void makeAndUnmakePawnMove() {
+        SearchBoard board = SearchBoard.from(standardState(), rules);
+
+        board.make(MoveCodec.pawn(new Position(1, 4)));
+
+        assertEquals(new Position(1, 4), board.toGameState().playerPosition(PlayerId.PLAYER_1));
+        assertEquals(PlayerId.PLAYER_2, board.currentPlayer());
+
+        board.unmake(MoveCodec.pawn(new Position(1, 4)));
+
+        assertEquals(standardState(), board.toGameState());
+        assertEquals(standardState().zobristKey(), board.zobristKey());
+    }
+
+    @Test
+    void makeWinningMoveFinishesGame() {
+        GameState state = stateWith(standardBoard().withPlayerAt(PlayerId.PLAYER_1, new Position(7, 2)));
+        SearchBoard board = SearchBoard.from(state, rules);
+        int move = MoveCodec.pawn(new Position(8, 2));
+
+        board.make(move);
+
+        assertTrue(board.isGameOver());
+        assertEquals(PlayerId.PLAYER_1, board.winner());
+        assertEquals(0, board.legalMoves(new int[SearchBoard.MAX_MOVES]));
+
+        board.unmake(move);
+
+        assertFalse(board.isGameOver());
+        assertEquals(state, board.toGameState());
+    }
+
+    @Test
+    void wallLegality() {
+        SearchBoard board = SearchBoard.from(stateWith(standardBoard().addWall(hWall(4, 4))), rules);
+
+        assertFalse(board.isLegalWall(MoveCodec.wall(hWall(4, 4))));
+        assertFalse(board.isLegalWall(MoveCodec.wall(hWall(4, 5))));
+        assertFalse(board.isLegalWall(MoveCodec.wall(vWall(4, 4))));
+        assertTrue(board.isLegalWall(MoveCodec.wall(hWall(4, 6))));
+        assertTrue(board.isLegalWall(MoveCodec.wall(vWall(3, 4))));
+    }
+
+    @Test
+    void distanceToGoalFromStart() {
+        SearchBoard board = SearchBoard.from(standardState(), rules);
+
+        assertEquals(8, board.distanceToGoal(0));
+        assertEquals(8, board.distanceToGoal(1));
+    }
+
+    @Test
+    void copyIsIndependent() {
+        SearchBoard board = SearchBoard.from(standardState(), rules);
+        SearchBoard copy = board.copy();
+
+        copy.make(MoveCodec.wall(hWall(0, 0)));
+
+        assertEquals(standardState(), board.toGameState());
+        assertNotEquals(board.zobristKey(), copy.zobristKey());
+    }
+
+    // Random games played on both representations must agree ply by ply, and unmaking
+    // everything must restore the start exactly
+    @Test
+    void matchesImmutablePathInRandomGames() {
+        Random random = new Random(12);
+        int[] buffer = new int[SearchBoard.MAX_MOVES];
+
+        for (int game = 0; game < 30; game++) {
+            GameState start = game % 3 == 0 ? fourPlayerState() : standardState();
+            GameState state = start;
+            SearchBoard board = SearchBoard.from(start, rules);
+            Deque<Integer> played = new ArrayDeque<>();
+
+            for (int ply = 0; ply < 80 && !state.isGameOver(); ply++) {
+                int count = board.legalMoves(buffer);
+                assertEquals(expectedMoves(state), codes(buffer, count), "game " + game + " ply " + ply);
+
+                int move = buffer[random.nextInt(count)];
+                state = play(state, move);
+                board.make(move);
+                played.push(move);
+
+                assertEquals(state, board.toGameState());
+                assertEquals(state.zobristKey(), board.zobristKey());
+            }
+
+            while (!played.isEmpty()) {
+                board.unmake(played.pop());
+            }
+            assertEquals(start, board.toGameState());
+            assertEquals(start.zobristKey(), board.zobristKey());
+        }
+    }
+
+    private Set<Integer> expectedMoves(GameState state) {
+        Set<Integer> moves = new HashSet<>();
+        PlayerId player = state.currentPlayerId();
+        for (Position destination : pawnMoves.legalDestinations(state, player)) {
+            moves.add(MoveCodec.pawn(destination));
+        }
+        if (state.currentPlayerWallsRemaining() > 0) {
+            for (Wall wall : wallValidator.legalWalls(state, player)) {
+                moves.add(MoveCodec.wall(wall));
+            }
+        }
+        return moves;
+    }
+
+    private GameState play(GameState state, int move) {
+        PlayerId player = state.currentPlayerId();
+        if (MoveCodec.isWall(move)) {
+            return state.withWallPlaced(player, MoveCodec.wallOf(move)).withNextTurn();
+        }
+        GameState moved = state.withPawnMovedTo(player, MoveCodec.destination(move));
+        return winChecker.isWin(moved, player) ? moved.withGameFinished(player) : moved.withNextTurn();
+    }
+
+    private static Set<Integer> codes(int[] buffer, int count) {
+        Set<Integer> codes = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            assertTrue(codes.add(buffer[i]), "duplicate move " + buffer[i]);
+        }
+        return codes;
+    }
+}
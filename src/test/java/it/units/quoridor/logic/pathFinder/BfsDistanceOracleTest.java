@@ -0,0 +1,78 @@
+package it.units.quoridor.logic.pathFinder;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import org.junit.jupiter.api.Test;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BfsDistanceOracleTest {
+
+    private final DistanceOracle oracle = new BfsDistanceOracle(new QuoridorGameRules());
+
+    @Test
+    void startingPlayersAreEightStepsFromGoalOnEmptyBoard() {
+        Board board = fourPlayerBoard();
+
+        assertEquals(8, oracle.distanceToGoal(board, PlayerId.PLAYER_1));
+        assertEquals(8, oracle.distanceToGoal(board, PlayerId.PLAYER_2));
+        assertEquals(8, oracle.distanceToGoal(board, PlayerId.PLAYER_3));
+        assertEquals(8, oracle.distanceToGoal(board, PlayerId.PLAYER_4));
+    }
+
+    @Test
+    void distanceMapIsZeroOnGoalLine() {
+        int[] map = oracle.distanceMap(standardBoard(), PlayerId.PLAYER_1);
+
+        assertEquals(81, map.length);
+        for (int col = 0; col <= 8; col++) {
+            assertEquals(0, map[8 * 9 + col]);
+            assertEquals(8, map[col]);
+        }
+    }
+
+    @Test
+    void wallsForceDetour() {
+        // barrier in front of P1 covering columns 0..7, gap only at column 8
+        Board board = standardBoard();
+        for (int c = 0; c <= 6; c += 2) {
+            board = board.addWall(hWall(0, c));
+        }
+
+        // 4 steps east to column 8, then 8 steps north (and the mirror path for P2)
+        assertEquals(12, oracle.distanceToGoal(board, PlayerId.PLAYER_1));
+        assertEquals(12, oracle.distanceToGoal(board, PlayerId.PLAYER_2));
+        assertEquals(8, oracle.distanceToGoal(board, PlayerId.PLAYER_1, new Position(0, 8)));
+    }
+
+    @Test
+    void unreachableCellsAreReported() {
+        Board board = new Board()
+                .addWall(hWall(3, 3))
+                .addWall(hWall(4, 3))
+                .addWall(vWall(4, 3))
+                .addWall(vWall(4, 4));
+
+        assertEquals(DistanceOracle.UNREACHABLE,
+                oracle.distanceToGoal(board, PlayerId.PLAYER_1, new Position(4, 4)));
+        assertEquals(8, oracle.distanceToGoal(board, PlayerId.PLAYER_1, new Position(0, 0)));
+    }
+
+    @Test
+    void pawnMovesDoNotChangeDistanceField() {
+        Board board = standardBoard().addWall(vWall(2, 2));
+        Board moved = board.withPlayerAt(PlayerId.PLAYER_1, new Position(3, 4));
+
+        assertArrayEquals(oracle.distanceMap(board, PlayerId.PLAYER_1), oracle.distanceMap(moved, PlayerId.PLAYER_1));
+        assertEquals(5, oracle.distanceToGoal(moved, PlayerId.PLAYER_1));
+    }
+
+    @Test
+    void distanceMapReturnsDefensiveCopy() {
+        Board board = standardBoard();
+        oracle.distanceMap(board, PlayerId.PLAYER_2)[0] = 99;
+
+        assertEquals(0, oracle.distanceMap(board, PlayerId.PLAYER_2)[0]);
+    }
+}
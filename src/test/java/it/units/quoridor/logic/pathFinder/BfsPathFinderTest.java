@@ -3,6 +3,8 @@ package it.units.quoridor.logic.pathFinder;
 import it.units.quoridor.domain.*;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+
 import static it.units.quoridor.TestFixtures.*;
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -77,4 +79,35 @@ class BfsPathFinderTest {
         // Assert
         assertFalse(exists);
     }
-}
\ No newline at end of file
+
+    @Test
+    void pathExistsToAnyReachesGoalRowInOneTraversal() {
+        // Arrange - a horizontal barrier with a single gap on the far right
+        Board board = new Board();
+        for (int c = 0; c <= 6; c += 2) {
+            board = board.addWall(hWall(3, c));
+        }
+
+        BfsPathFinder pathFinder = new BfsPathFinder();
+
+        // Act + Assert - row 8 is reachable through the gap at column 8
+        assertTrue(pathFinder.pathExistsToAny(board, new Position(0, 0), p -> p.row() == 8));
+    }
+
+    @Test
+    void pathExistsToAnyReturnsFalseWhenNoGoalIsReachable() {
+        // Arrange - (4,4) walled in on all four sides, as in noPathWhenCompletelyBlockedByWalls
+        Board board = new Board()
+                .addWall(hWall(3, 3))
+                .addWall(hWall(4, 3))
+                .addWall(vWall(4, 3))
+                .addWall(vWall(4, 4));
+
+        Set<Position> goals = Set.of(new Position(8, 0), new Position(8, 4), new Position(0, 0));
+        BfsPathFinder pathFinder = new BfsPathFinder();
+
+        // Act + Assert
+        assertFalse(pathFinder.pathExistsToAny(board, new Position(4, 4), goals));
+        assertTrue(pathFinder.pathExistsToAny(board, new Position(4, 4), Set.of(new Position(4, 4))));
+    }
+}
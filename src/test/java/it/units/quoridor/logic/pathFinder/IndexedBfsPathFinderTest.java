@@ -0,0 +1,76 @@
+package it.units.quoridor.logic.pathFinder;
+
+import it.units.quoridor.domain.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.Set;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndexedBfsPathFinderTest {
+
+    private final IndexedBfsPathFinder pathFinder = new IndexedBfsPathFinder();
+
+    @Test
+    void pathExistsOnEmptyBoard() {
+        assertTrue(pathFinder.pathExists(new Board(), new Position(2, 2), new Position(6, 6)));
+        assertTrue(pathFinder.pathExists(new Board(), new Position(0, 0), new Position(8, 8)));
+    }
+
+    @Test
+    void pathExistsWhenStartEqualsEnd() {
+        assertTrue(pathFinder.pathExists(new Board(), new Position(4, 4), new Position(4, 4)));
+    }
+
+    @Test
+    void noPathWhenCompletelyBlockedByWalls() {
+        Board board = new Board()
+                .addWall(hWall(3, 3))
+                .addWall(hWall(4, 3))
+                .addWall(vWall(4, 3))
+                .addWall(vWall(4, 4));
+
+        assertFalse(pathFinder.pathExists(board, new Position(4, 4), new Position(0, 0)));
+        assertFalse(pathFinder.pathExistsToAny(board, new Position(4, 4), p -> p.row() == 8));
+        assertTrue(pathFinder.pathExistsToAny(board, new Position(0, 0), Set.of(new Position(8, 8))));
+    }
+
+    @Test
+    void instanceIsReusableAcrossSearches() {
+        // seals cells (0,0) and (0,1) into the bottom-left corner
+        Board walled = new Board().addWall(hWall(0, 0)).addWall(vWall(0, 1));
+
+        assertFalse(pathFinder.pathExists(walled, new Position(0, 0), new Position(8, 8)));
+        assertTrue(pathFinder.pathExists(walled, new Position(8, 8), new Position(4, 4)));
+        assertTrue(pathFinder.pathExists(walled, new Position(0, 1), new Position(0, 0)));
+        assertFalse(pathFinder.pathExists(walled, new Position(0, 1), new Position(1, 1)));
+    }
+
+    // differential check against the reference BFS on random wall layouts
+    @Test
+    void agreesWithBfsPathFinderOnRandomBoards() {
+        BfsPathFinder reference = new BfsPathFinder();
+        Random random = new Random(42);
+
+        for (int round = 0; round < 200; round++) {
+            Board board = new Board();
+            int wallCount = random.nextInt(25);
+            for (int i = 0; i < wallCount; i++) {
+                Wall wall = random.nextBoolean()
+                        ? hWall(random.nextInt(8), random.nextInt(8))
+                        : vWall(random.nextInt(8), random.nextInt(8));
+                board = board.addWall(wall);
+            }
+
+            Position from = new Position(random.nextInt(9), random.nextInt(9));
+            Position to = new Position(random.nextInt(9), random.nextInt(9));
+            int goalRow = random.nextInt(9);
+
+            assertEquals(reference.pathExists(board, from, to), pathFinder.pathExists(board, from, to));
+            assertEquals(reference.pathExistsToAny(board, from, p -> p.row() == goalRow),
+                    pathFinder.pathExistsToAny(board, from, p -> p.row() == goalRow));
+        }
+    }
+}
@@ -108,6 +108,28 @@ class GameRulesTest {
         assertEquals(expectedCol0, goals);
     }
 
+    @Test
+    void goalPositionsAreSharedAndUnmodifiable() {
+        GameRules rules = new QuoridorGameRules();
+
+        Set<Position> goals = rules.getGoalPositions(PlayerId.PLAYER_1);
+
+        assertSame(goals, rules.getGoalPositions(PlayerId.PLAYER_1));
+        assertThrows(UnsupportedOperationException.class, () -> goals.add(new Position(0, 0)));
+    }
+
+    @Test
+    void isGoalAgreesWithGoalPositionsOnEveryCell() {
+        GameRules rules = new QuoridorGameRules();
+
+        for (PlayerId player : PlayerId.values()) {
+            for (int cell = 0; cell < Position.CELL_COUNT; cell++) {
+                Position position = Position.ofIndex(cell);
+                assertEquals(rules.getGoalPositions(player).contains(position), rules.isGoal(player, position));
+            }
+        }
+    }
+
     @Test
     void getInitialWallCountFor2PlayerGame() {
         // Arrange
@@ -0,0 +1,115 @@
+package it.units.quoridor.logic.validation;
+
+import it.units.quoridor.domain.*;
+import it.units.quoridor.logic.pathFinder.BfsDistanceOracle;
+import it.units.quoridor.logic.pathFinder.BfsPathFinder;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static it.units.quoridor.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathImpactTest {
+
+    private final QuoridorGameRules rules = new QuoridorGameRules();
+
+    private PathImpact impactOf(GameState state) {
+        return new PathImpact(state.board(), state.players(), rules, new BfsDistanceOracle(rules));
+    }
+
+    @Test
+    void wallAwayFromBothShortestPathsDoesNotTouchPath() {
+        // both pawns walk straight up/down column 4 on an empty board
+        PathImpact impact = impactOf(standardState());
+
+        assertFalse(impact.touchesPath(hWall(3, 0)));
+        assertFalse(impact.touchesPath(vWall(3, 4)));
+    }
+
+    @Test
+    void wallAcrossShortestPathTouchesPath() {
+        PathImpact impact = impactOf(standardState());
+
+        assertTrue(impact.touchesPath(hWall(3, 4)));
+        assertTrue(impact.touchesPath(hWall(0, 3)));
+    }
+
+    @Test
+    void wallClosingLastExitOfPocketIsolatesPlayer() {
+        // P1 sits in the pocket (0,0)-(1,0); the vertical wall closes its east side,
+        // leaving (1,0)->(2,0) as the only way out
+        Board board = standardBoard()
+                .withPlayerAt(PlayerId.PLAYER_1, new Position(0, 0))
+                .addWall(vWall(0, 0));
+        PathImpact impact = impactOf(stateWith(board));
+
+        assertTrue(impact.touchesPath(hWall(1, 0)));
+        assertTrue(impact.isolatesPlayer(hWall(1, 0)));
+    }
+
+    @Test
+    void wallOnPathThatLeavesDetourDoesNotIsolate() {
+        PathImpact impact = impactOf(standardState());
+
+        assertFalse(impact.isolatesPlayer(hWall(3, 4)));
+    }
+
+    // the fast paths must never change a verdict: compare with a naive validator on random games
+    @Test
+    void validatorAgreesWithNaiveCheckOnRandomPositions() {
+        BfsPathFinder pathFinder = new BfsPathFinder();
+        WallPlacementValidator validator = new QuoridorWallPlacementValidator(rules, pathFinder);
+        Random random = new Random(7);
+
+        for (int game = 0; game < 20; game++) {
+            GameState state = random.nextBoolean() ? standardState() : fourPlayerState();
+
+            for (int ply = 0; ply < 40; ply++) {
+                PlayerId mover = state.players().get(random.nextInt(state.players().size())).id();
+
+                for (int i = 0; i < 30; i++) {
+                    Wall wall = random.nextBoolean()
+                            ? hWall(random.nextInt(8), random.nextInt(8))
+                            : vWall(random.nextInt(8), random.nextInt(8));
+                    assertEquals(naiveCanPlace(state, wall, pathFinder), validator.canPlaceWall(state, mover, wall),
+                            "wall " + wall + " on " + state.board());
+                }
+
+                Wall wall = hWall(random.nextInt(8), random.nextInt(8));
+                if (naiveCanPlace(state, wall, pathFinder)) {
+                    state = state.withBoard(state.board().addWall(wall));
+                } else {
+                    Position from = state.playerPosition(mover);
+                    Direction dir = Direction.values()[random.nextInt(4)];
+                    if (from.tryMove(dir).isPresent() && !state.board().isEdgeBlocked(from, dir)
+                            && !state.board().isOccupied(from.move(dir))) {
+                        state = state.withPawnMovedTo(mover, from.move(dir));
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean naiveCanPlace(GameState state, Wall wall, BfsPathFinder pathFinder) {
+        Board board = state.board();
+        for (BlockedEdge edge : wall.blockedEdges()) {
+            if (board.allBlockedEdges().contains(edge)) return false;
+        }
+        for (Wall existing : board.walls()) {
+            if (existing.position().equals(wall.position()) && existing.orientation() != wall.orientation()) {
+                return false;
+            }
+        }
+        Board withWall = board.addWall(wall);
+        for (Player p : state.players()) {
+            boolean reachable = false;
+            for (Position goal : rules.getGoalPositions(p.id())) {
+                reachable |= pathFinder.pathExists(withWall, state.playerPosition(p.id()), goal);
+            }
+            if (!reachable) return false;
+        }
+        return true;
+    }
+}
@@ -67,4 +67,31 @@ public class WallValidatorTest {
         assertFalse(wallValidator.canPlaceWall(initialState, PlayerId.PLAYER_1, hWall(3, 7)));
     }
 
+    // 5. batched legal-wall enumeration agrees with checking each candidate individually
+    @Test
+    void legalWalls_matchesCanPlaceWallForEveryCandidate() {
+        Board board = fourPlayerBoard()
+                .addWall(hWall(3, 3))
+                .addWall(vWall(5, 0))
+                .addWall(hWall(0, 4))
+                .addWall(vWall(6, 7));
+        GameState state = new GameState(board, fourPlayerState().players());
+
+        WallSet legal = wallValidator.legalWalls(state, PlayerId.PLAYER_1);
+
+        for (int row = 0; row <= 7; row++) {
+            for (int col = 0; col <= 7; col++) {
+                for (Wall wall : new Wall[]{hWall(row, col), vWall(row, col)}) {
+                    assertEquals(wallValidator.canPlaceWall(state, PlayerId.PLAYER_1, wall), legal.contains(wall),
+                            "mismatch for " + wall);
+                }
+            }
+        }
+    }
+
+    // 6. on an empty board every wall slot is legal
+    @Test
+    void legalWalls_allCandidatesOnEmptyBoard() {
+        assertEquals(128, wallValidator.legalWalls(standardState(), PlayerId.PLAYER_1).size());
+    }
 }
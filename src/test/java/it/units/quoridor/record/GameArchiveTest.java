@@ -0,0 +1,183 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.engine.QuoridorEngine;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.PlayerCount;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static it.units.quoridor.TestFixtures.newEngine;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameArchiveTest {
+
+    private static final GameRules RULES = new QuoridorGameRules();
+
+    @TempDir
+    Path dir;
+
+    // Seeded random legal games, played on search boards
+    private static List<GameRecord> randomGames(int count, long seed) {
+        Random random = new Random(seed);
+        List<GameRecord> games = new ArrayList<>();
+        int[] moves = new int[SearchBoard.MAX_MOVES];
+        for (int game = 0; game < count; game++) {
+            PlayerCount playerCount = game % 3 == 2 ? PlayerCount.FOUR_PLAYERS : PlayerCount.TWO_PLAYERS;
+            QuoridorEngine engine = newEngine();
+            engine.newGame(playerCount, playerCount == PlayerCount.FOUR_PLAYERS
+                    ? List.of("A", "B", "C", "D") : List.of("A", "B"));
+            SearchBoard board = SearchBoard.from(engine.gameState(), RULES);
+
+            int length = random.nextInt(40);
+            int[] played = new int[length];
+            int ply = 0;
+            while (ply < length && !board.isGameOver()) {
+                int move = moves[random.nextInt(board.legalMoves(moves))];
+                board.make(move);
+                played[ply++] = move;
+            }
+            games.add(GameRecord.of(playerCount, Arrays.copyOf(played, ply)));
+        }
+        return games;
+    }
+
+    private Path writeArchive(List<GameRecord> games) throws IOException {
+        Path file = dir.resolve("games.qra");
+        try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+            for (GameRecord game : games) {
+                writer.write(game);
+            }
+        }
+        return file;
+    }
+
+    @Test
+    void readsBackEveryGameThroughTheIndex() throws IOException {
+        List<GameRecord> games = randomGames(50, 1);
+        Path file = writeArchive(games);
+
+        for (long segment : new long[] {1L << 30, 64}) {
+            try (GameArchive archive = GameArchive.open(file, RULES, segment)) {
+                assertEquals(games.size(), archive.size());
+                for (int game = games.size() - 1; game >= 0; game--) {
+                    GameRecord expected = games.get(game);
+                    assertEquals(expected, archive.game(game));
+                    assertEquals(expected.length(), archive.length(game));
+                    assertEquals(expected.playerCount(), archive.playerCount(game));
+                    for (int ply = 0; ply < expected.length(); ply++) {
+                        assertEquals(expected.move(ply), archive.move(game, ply));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void positionMatchesEngineReplay() throws IOException {
+        List<GameRecord> games = randomGames(12, 2);
+        Path file = writeArchive(games);
+
+        try (GameArchive archive = GameArchive.open(file, RULES)) {
+            for (int game = 0; game < games.size(); game++) {
+                GameRecord record = games.get(game);
+                QuoridorEngine engine = newEngine();
+                record.replay(engine);
+                GameState end = engine.gameState();
+
+                SearchBoard board = archive.position(game, record.length());
+                assertEquals(end.zobristKey(), board.zobristKey());
+                assertEquals(end.board(), board.toGameState().board());
+            }
+        }
+    }
+
+    @Test
+    void scanVisitsEveryPlyWithItsPosition() throws IOException {
+        List<GameRecord> games = randomGames(30, 3);
+        Path file = writeArchive(games);
+
+        try (GameArchive archive = GameArchive.open(file, RULES, 128)) {
+            int[] plies = new int[1];
+            int[] ends = new int[1];
+            archive.scan(new PlyVisitor() {
+                @Override
+                public void visit(int game, int ply, SearchBoard board, int move) {
+                    assertEquals(archive.position(game, ply).zobristKey(), board.zobristKey());
+                    assertEquals(games.get(game).move(ply), move);
+                    plies[0]++;
+                }
+
+                @Override
+                public void gameEnd(int game, SearchBoard board) {
+                    assertEquals(archive.position(game, games.get(game).length()).zobristKey(), board.zobristKey());
+                    ends[0]++;
+                }
+            });
+
+            assertEquals(games.stream().mapToInt(GameRecord::length).sum(), plies[0]);
+            assertEquals(games.size(), ends[0]);
+        }
+    }
+
+    @Test
+    void writerRecordsEngineGames() throws IOException {
+        Path file = dir.resolve("live.qra");
+        QuoridorEngine engine = newEngine();
+        try (GameArchiveWriter writer = new GameArchiveWriter(file)) {
+            engine.addMoveListener(writer);
+            engine.newGame(PlayerCount.TWO_PLAYERS, List.of("A", "B"));
+            engine.playMove(PlayerId.PLAYER_1, MoveNotation.parse("e2"));
+            engine.playMove(PlayerId.PLAYER_2, MoveNotation.parse("e3h"));
+        }
+
+        try (GameArchive archive = GameArchive.open(file, RULES)) {
+            assertEquals(1, archive.size());
+            assertEquals(GameRecord.of(PlayerCount.TWO_PLAYERS, MoveNotation.parse("e2"),
+                    MoveNotation.parse("e3h")), archive.game(0));
+            assertTrue(MoveCodec.isWall(archive.move(0, 1)));
+        }
+    }
+
+    @Test
+    void emptyArchiveHasNoGames() throws IOException {
+        Path file = writeArchive(List.of());
+
+        try (GameArchive archive = GameArchive.open(file, RULES)) {
+            assertEquals(0, archive.size());
+            assertThrows(IndexOutOfBoundsException.class, () -> archive.game(0));
+        }
+    }
+
+    @Test
+    void scanRejectsUnsupportedPlayerCount() throws IOException {
+        Path file = writeArchive(List.of(GameRecord.of(PlayerCount.TWO_PLAYERS, MoveNotation.parse("e2"))));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[GameArchive.HEADER_BYTES] = 3;   // player byte of the first record
+        Files.write(file, bytes);
+
+        try (GameArchive archive = GameArchive.open(file, RULES)) {
+            assertThrows(IllegalArgumentException.class, () -> archive.scan((game, ply, board, move) -> { }));
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotArchives() throws IOException {
+        Path file = dir.resolve("other.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+
+        assertThrows(IOException.class, () -> GameArchive.open(file, RULES));
+    }
+}
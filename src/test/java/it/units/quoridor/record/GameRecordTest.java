@@ -0,0 +1,168 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.engine.QuoridorEngine;
+import it.units.quoridor.logic.rules.PlayerCount;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static it.units.quoridor.TestFixtures.newEngine;
+import static it.units.quoridor.TestFixtures.playRandomMove;
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRecordTest {
+
+    // Plays seeded random moves, sometimes taking one back, and returns the final state
+    private static GameState playRandomGame(QuoridorEngine engine, PlayerCount playerCount, long seed) {
+        engine.newGame(playerCount, playerCount == PlayerCount.FOUR_PLAYERS
+                ? List.of("A", "B", "C", "D") : List.of("A", "B"));
+        Random random = new Random(seed);
+        for (int i = 0; i < 80 && !engine.isGameOver(); i++) {
+            playRandomMove(engine, random);
+            if (random.nextInt(10) == 0) engine.undo();
+        }
+        return engine.gameState();
+    }
+
+    private static void assertReplaysTo(GameState expected, GameRecord record) {
+        QuoridorEngine replayed = newEngine();
+        record.replay(replayed);
+        assertEquals(expected.board(), replayed.gameState().board());
+        assertEquals(expected.zobristKey(), replayed.gameState().zobristKey());
+    }
+
+    @Test
+    void textWriterRecordsEngineGamesThatReplayToSameState() throws IOException {
+        QuoridorEngine engine = newEngine();
+        StringWriter text = new StringWriter();
+        List<GameState> finals = new ArrayList<>();
+
+        try (TextRecordWriter writer = new TextRecordWriter(text)) {
+            engine.addMoveListener(writer);
+            finals.add(playRandomGame(engine, PlayerCount.TWO_PLAYERS, 1));
+            finals.add(playRandomGame(engine, PlayerCount.FOUR_PLAYERS, 2));
+        }
+
+        try (TextRecordReader reader = new TextRecordReader(new StringReader(text.toString()))) {
+            assertReplaysTo(finals.get(0), reader.read());
+            assertReplaysTo(finals.get(1), reader.read());
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    void binaryWriterRecordsEngineGamesThatReplayToSameState() throws IOException {
+        QuoridorEngine engine = newEngine();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        List<GameState> finals = new ArrayList<>();
+
+        try (BinaryRecordWriter writer = new BinaryRecordWriter(bytes)) {
+            engine.addMoveListener(writer);
+            for (int seed = 0; seed < 5; seed++) {
+                finals.add(playRandomGame(engine, seed % 2 == 0 ? PlayerCount.TWO_PLAYERS : PlayerCount.FOUR_PLAYERS, seed));
+            }
+        }
+
+        try (BinaryRecordReader reader = new BinaryRecordReader(new ByteArrayInputStream(bytes.toByteArray()))) {
+            for (GameState expected : finals) {
+                assertReplaysTo(expected, reader.read());
+            }
+            assertNull(reader.read());
+        }
+    }
+
+    @Test
+    void textFormatIsOneLinePerGame() throws IOException {
+        GameRecord record = GameRecord.of(PlayerCount.TWO_PLAYERS,
+                MoveNotation.parse("e2"), MoveNotation.parse("e8"), MoveNotation.parse("e3h"));
+
+        assertEquals("2 e2 e8 e3h", TextRecordWriter.format(record));
+        assertEquals(record, TextRecordReader.parse("2 e2 e8 e3h"));
+
+        TextRecordReader reader = new TextRecordReader(new StringReader("# comment\n\n2 e2 e8 e3h\n4\n"));
+        assertEquals(record, reader.read());
+        assertEquals(GameRecord.of(PlayerCount.FOUR_PLAYERS), reader.read());
+        assertNull(reader.read());
+    }
+
+    @Test
+    void binaryRecordIsLengthPrefixed() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (BinaryRecordWriter writer = new BinaryRecordWriter(bytes)) {
+            writer.write(GameRecord.of(PlayerCount.TWO_PLAYERS, 13, 67, 148));
+        }
+
+        assertArrayEquals(new byte[] {2, 0, 3, 13, 67, (byte) 148}, bytes.toByteArray());
+    }
+
+    @Test
+    void recordCannotBeChangedThroughItsArray() {
+        byte[] moves = {13, 67};
+        GameRecord record = new GameRecord(PlayerCount.TWO_PLAYERS, moves);
+        int hash = record.hashCode();
+
+        moves[0] = 22;
+        record.moves()[1] = 58;
+
+        assertEquals(13, record.move(0));
+        assertEquals(67, record.move(1));
+        assertEquals(hash, record.hashCode());
+        assertEquals(GameRecord.of(PlayerCount.TWO_PLAYERS, 13, 67), record);
+    }
+
+    @Test
+    void malformedInputIsReported() throws IOException {
+        TextRecordReader text = new TextRecordReader(new StringReader("2 e2\n3 e2\n"));
+        assertNotNull(text.read());
+        IOException error = assertThrows(IOException.class, text::read);
+        assertTrue(error.getMessage().startsWith("Line 2"));
+
+        BinaryRecordReader truncated = new BinaryRecordReader(new ByteArrayInputStream(new byte[] {2, 0, 3, 13}));
+        assertThrows(EOFException.class, truncated::read);
+    }
+
+    @Test
+    void replayRejectsIllegalMoves() {
+        GameRecord record = GameRecord.of(PlayerCount.TWO_PLAYERS, MoveNotation.parse("e2"), MoveNotation.parse("e2"));
+
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> record.replay(newEngine()));
+        assertTrue(error.getMessage().contains("ply 2"));
+    }
+
+    @Test
+    void writerFollowsJumpsAlongTheHistory() throws IOException {
+        QuoridorEngine engine = newEngine();
+        engine.setHistoryLimits(1000, 4);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BinaryRecordWriter writer = new BinaryRecordWriter(bytes);
+        engine.addMoveListener(writer);
+
+        playRandomGame(engine, PlayerCount.TWO_PLAYERS, 9);
+        int lastPly = engine.lastPly();
+        engine.goToPly(1);
+        engine.goToPly(lastPly);
+        GameState end = engine.gameState();
+        engine.goToPly(3);
+        GameState third = engine.gameState();
+        writer.finishGame();
+        engine.goToPly(lastPly);
+        writer.gameStarted(PlayerCount.TWO_PLAYERS);
+        writer.close();
+
+        BinaryRecordReader reader = new BinaryRecordReader(new ByteArrayInputStream(bytes.toByteArray()));
+        GameRecord partial = reader.read();
+        assertEquals(3, partial.length());
+        assertReplaysTo(third, partial);
+        assertEquals(0, reader.read().length());
+        assertNotEquals(third, end);
+    }
+}
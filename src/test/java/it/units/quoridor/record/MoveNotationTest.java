@@ -0,0 +1,42 @@
+package it.units.quoridor.record;
+
+import it.units.quoridor.domain.Position;
+import it.units.quoridor.engine.moves.MoveCodec;
+import org.junit.jupiter.api.Test;
+
+import static it.units.quoridor.TestFixtures.hWall;
+import static it.units.quoridor.TestFixtures.vWall;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveNotationTest {
+
+    @Test
+    void formatsPawnMovesAsDestinationSquare() {
+        assertEquals("a1", MoveNotation.format(MoveCodec.pawn(new Position(0, 0))));
+        assertEquals("e2", MoveNotation.format(MoveCodec.pawn(new Position(1, 4))));
+        assertEquals("i9", MoveNotation.format(MoveCodec.pawn(new Position(8, 8))));
+    }
+
+    @Test
+    void formatsWallsAsBottomLeftSquareAndOrientation() {
+        assertEquals("e3h", MoveNotation.format(MoveCodec.wall(hWall(2, 4))));
+        assertEquals("h8v", MoveNotation.format(MoveCodec.wall(vWall(7, 7))));
+    }
+
+    @Test
+    void parseInvertsFormatForEveryMove() {
+        for (int move = 0; move < 256; move++) {
+            if (MoveCodec.isValid(move)) {
+                assertEquals(move, MoveNotation.parse(MoveNotation.format(move)));
+            }
+        }
+    }
+
+    @Test
+    void rejectsMalformedMoves() {
+        for (String text : new String[] {"", "e", "j1", "e0", "a10", "i1h", "a9v", "e3x", "e3hh"}) {
+            assertThrows(IllegalArgumentException.class, () -> MoveNotation.parse(text), text);
+        }
+        assertThrows(IllegalArgumentException.class, () -> MoveNotation.format(100));
+    }
+}
@@ -0,0 +1,39 @@
+package it.units.quoridor.tournament;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentCliTest {
+
+    private static String runExpectingUsageError(String... args) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertEquals(2, TournamentCli.run(args, new PrintStream(bytes, true, StandardCharsets.UTF_8)));
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void rejectsNonNumericOption() {
+        assertTrue(runExpectingUsageError("--tournament", "--games=abc").contains("--games"));
+    }
+
+    @Test
+    void rejectsNonPositiveOptions() {
+        assertTrue(runExpectingUsageError("--tournament", "--threads=0").contains("--threads"));
+        assertTrue(runExpectingUsageError("--tournament", "--time-ms=-5").contains("--time-ms"));
+    }
+
+    @Test
+    void rejectsUnknownBot() {
+        assertTrue(runExpectingUsageError("--tournament", "--bots=alphabeta,random").contains("random"));
+    }
+
+    @Test
+    void rejectsWrongNumberOfBots() {
+        runExpectingUsageError("--tournament", "--bots=alphabeta,mcts,mcts");
+    }
+}
@@ -0,0 +1,62 @@
+package it.units.quoridor.tournament;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentReportTest {
+
+    private static final List<Contestant> CONTESTANTS =
+            List.of(new Contestant("alpha", () -> null), new Contestant("beta", () -> null));
+
+    @Test
+    void wilsonIntervalAroundHalf() {
+        double[] interval = TournamentReport.wilsonInterval(50, 100);
+
+        assertEquals(0.4038, interval[0], 1e-4);
+        assertEquals(0.5962, interval[1], 1e-4);
+    }
+
+    @Test
+    void wilsonIntervalStaysInsideUnitRange() {
+        double[] none = TournamentReport.wilsonInterval(0, 10);
+        double[] all = TournamentReport.wilsonInterval(10, 10);
+
+        assertEquals(0.0, none[0], 1e-12);
+        assertTrue(none[1] > 0.0 && none[1] < 0.5);
+        assertEquals(1.0, all[1], 1e-12);
+        assertTrue(all[0] > 0.5 && all[0] < 1.0);
+    }
+
+    @Test
+    void countsWinsDrawsAndForfeits() {
+        List<GameResult> results = List.of(
+                new GameResult(0, List.of(0, 1), 0, -1, 3, new long[] {1_000_000, 2_000_000, 3_000_000}),
+                new GameResult(1, List.of(1, 0), 0, 1, 2, new long[] {1_000_000, 5_000_000}),
+                new GameResult(2, List.of(0, 1), -1, -1, 2, new long[] {1_000_000, 1_000_000}));
+
+        List<TournamentReport.Line> lines = new TournamentReport(CONTESTANTS, results).lines();
+
+        TournamentReport.Line alpha = lines.get(0);
+        assertEquals(3, alpha.games());
+        assertEquals(1, alpha.wins());
+        assertEquals(1, alpha.draws());
+        assertEquals(1, alpha.forfeits());
+        assertEquals(5.0, alpha.maxMoveMillis(), 1e-9);
+
+        TournamentReport.Line beta = lines.get(1);
+        assertEquals(1, beta.wins());
+        assertEquals(0, beta.forfeits());
+        assertEquals(4.0 / 3, beta.averageMoveMillis(), 1e-9);
+    }
+
+    @Test
+    void formatListsEveryContestant() {
+        String table = new TournamentReport(CONTESTANTS, List.of()).format();
+
+        assertTrue(table.contains("alpha"));
+        assertTrue(table.contains("beta"));
+    }
+}
@@ -0,0 +1,185 @@
+package it.units.quoridor.tournament;
+
+import it.units.quoridor.ai.Bot;
+import it.units.quoridor.domain.GameState;
+import it.units.quoridor.domain.PlayerId;
+import it.units.quoridor.engine.GameEngine;
+import it.units.quoridor.engine.QuoridorEngine;
+import it.units.quoridor.engine.moves.Move;
+import it.units.quoridor.engine.moves.MoveCodec;
+import it.units.quoridor.engine.moves.PawnMove;
+import it.units.quoridor.engine.search.SearchBoard;
+import it.units.quoridor.logic.pathFinder.IndexedBfsPathFinder;
+import it.units.quoridor.logic.rules.GameRules;
+import it.units.quoridor.logic.rules.QuoridorGameRules;
+import it.units.quoridor.logic.rules.QuoridorWinChecker;
+import it.units.quoridor.logic.validation.QuoridorPawnMoveValidator;
+import it.units.quoridor.logic.validation.QuoridorWallPlacementValidator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    private static final GameRules RULES = new QuoridorGameRules();
+
+    private static GameEngine engine() {
+        return new QuoridorEngine(RULES, new QuoridorPawnMoveValidator(),
+                new QuoridorWallPlacementValidator(RULES, new IndexedBfsPathFinder()),
+                new QuoridorWinChecker(RULES));
+    }
+
+    // Steps along a shortest path, never places walls
+    private static final Bot GREEDY = state -> {
+        SearchBoard board = SearchBoard.from(state, RULES);
+        int seat = board.currentSeat();
+        int[] moves = new int[SearchBoard.MAX_MOVES];
+        int count = board.pawnMoves(moves, 0);
+        int best = moves[0];
+        int bestDistance = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            board.make(moves[i]);
+            int distance = board.distanceToGoal(seat);
+            board.unmake(moves[i]);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = moves[i];
+            }
+        }
+        return MoveCodec.decode(state.currentPlayerId(), best);
+    };
+
+    // Tries to stay where it is, which the engine rejects
+    private static final Bot STANDS_STILL = state -> new PawnMove(state.currentPlayerId(),
+            state.board().playerPosition(state.currentPlayerId()));
+
+    private static Contestant contestant(String name, Bot bot) {
+        return new Contestant(name, () -> bot);
+    }
+
+    @Test
+    void playsEveryGameInOrderWithRotatingSeats() {
+        Tournament tournament = new Tournament(TournamentTest::engine,
+                List.of(contestant("a", GREEDY), contestant("b", GREEDY)), 200);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        List<GameResult> results;
+        try {
+            results = tournament.run(4, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(4, results.size());
+        for (int game = 0; game < 4; game++) {
+            GameResult result = results.get(game);
+            assertEquals(game, result.game());
+            assertEquals(List.of(game % 2, (game + 1) % 2), result.seats());
+            assertTrue(result.winner() >= 0);
+            assertEquals(-1, result.forfeiter());
+            assertEquals(result.moves(), result.moveNanos().length);
+        }
+    }
+
+    @Test
+    void illegalMoveForfeitsToTheOpponent() {
+        Tournament tournament = new Tournament(TournamentTest::engine,
+                List.of(contestant("still", STANDS_STILL), contestant("greedy", GREEDY)), 200);
+
+        GameResult result = tournament.play(0);
+
+        assertEquals(0, result.forfeiter());
+        assertEquals(1, result.winner());
+        assertEquals(1, result.moves());
+    }
+
+    @Test
+    void throwingBotForfeits() {
+        Bot broken = state -> { throw new IllegalStateException("boom"); };
+        Tournament tournament = new Tournament(TournamentTest::engine,
+                List.of(contestant("greedy", GREEDY), contestant("broken", broken)), 200);
+
+        GameResult result = tournament.play(0);
+
+        assertEquals(1, result.forfeiter());
+        assertEquals(0, result.winner());
+        assertEquals(2, result.moves());
+    }
+
+    @Test
+    void botThatCannotBeCreatedForfeits() {
+        Contestant unavailable = new Contestant("unavailable", () -> { throw new IllegalStateException("boom"); });
+        Tournament tournament = new Tournament(TournamentTest::engine,
+                List.of(contestant("greedy", GREEDY), unavailable), 200);
+
+        GameResult result = tournament.play(0);
+
+        assertEquals(1, result.forfeiter());
+        assertEquals(0, result.winner());
+        assertEquals(0, result.moves());
+    }
+
+    @Test
+    void everyBotIsClosedAfterItsGame() {
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+        Supplier<Bot> counted = () -> {
+            created.incrementAndGet();
+            return new Bot() {
+                @Override
+                public Move chooseMove(GameState state) {
+                    return GREEDY.chooseMove(state);
+                }
+
+                @Override
+                public void close() {
+                    closed.incrementAndGet();
+                }
+            };
+        };
+        Tournament tournament = new Tournament(TournamentTest::engine,
+                List.of(new Contestant("a", counted), new Contestant("b", counted)), 200);
+
+        tournament.play(0);
+        tournament.play(1);
+
+        assertEquals(4, created.get());
+        assertEquals(4, closed.get());
+    }
+
+    @Test
+    void fourPlayerForfeitHasNoWinner() {
+        Tournament tournament = new Tournament(TournamentTest::engine, List.of(
+                contestant("still", STANDS_STILL), contestant("g2", GREEDY),
+                contestant("g3", GREEDY), contestant("g4", GREEDY)), 200);
+
+        GameResult result = tournament.play(0);
+
+        assertEquals(0, result.forfeiter());
+        assertEquals(-1, result.winner());
+        assertFalse(result.isDraw());
+    }
+
+    @Test
+    void moveLimitEndsInDraw() {
+        Tournament tournament = new Tournament(TournamentTest::engine,
+                List.of(contestant("a", GREEDY), contestant("b", GREEDY)), 3);
+
+        GameResult result = tournament.play(0);
+
+        assertTrue(result.isDraw());
+        assertEquals(3, result.moves());
+    }
+
+    @Test
+    void rejectsThreeContestants() {
+        List<Contestant> three = List.of(contestant("a", GREEDY), contestant("b", GREEDY), contestant("c", GREEDY));
+
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(TournamentTest::engine, three, 10));
+    }
+}